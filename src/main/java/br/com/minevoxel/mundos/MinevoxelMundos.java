@@ -4,17 +4,29 @@ import br.com.minevoxel.mundos.commands.CommandHandler;
 import br.com.minevoxel.mundos.config.Config;
 import br.com.minevoxel.mundos.config.Messages;
 import br.com.minevoxel.mundos.database.DatabaseManager;
+import br.com.minevoxel.mundos.events.EntityEvents;
 import br.com.minevoxel.mundos.events.PlayerEvents;
+import br.com.minevoxel.mundos.events.RedstoneEvents;
+import br.com.minevoxel.mundos.events.SafeSpawnEvents;
 import br.com.minevoxel.mundos.events.WorldEvents;
+import br.com.minevoxel.mundos.events.WorldRuleEvents;
 import br.com.minevoxel.mundos.gui.GUIHandler;
+import br.com.minevoxel.mundos.managers.EntityLimitManager;
+import br.com.minevoxel.mundos.managers.IdleUnloadScheduler;
+import br.com.minevoxel.mundos.managers.MemoryPressureEvictor;
 import br.com.minevoxel.mundos.managers.MultiverseWorldManager;
 import br.com.minevoxel.mundos.managers.PlayerManager;
+import br.com.minevoxel.mundos.managers.RedstoneLimiter;
 import br.com.minevoxel.mundos.managers.ServerManager;
 import br.com.minevoxel.mundos.managers.TeleportManager;
+import br.com.minevoxel.mundos.managers.WorldProfiler;
+import br.com.minevoxel.mundos.managers.WorldTemplatePool;
+import br.com.minevoxel.mundos.utils.VoidChunkGenerator;
 import br.com.minevoxel.mundos.velocity.MessageChannels;
 import br.com.minevoxel.mundos.velocity.ServerConnector;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class MinevoxelMundos extends JavaPlugin {
@@ -30,6 +42,13 @@ public class MinevoxelMundos extends JavaPlugin {
     private GUIHandler guiHandler;
     private ServerConnector serverConnector;
     private MessageChannels messageChannels;
+    private WorldRuleEvents worldRuleEvents;
+    private EntityLimitManager entityLimitManager;
+    private RedstoneLimiter redstoneLimiter;
+    private WorldProfiler worldProfiler;
+    private IdleUnloadScheduler idleUnloadScheduler;
+    private MemoryPressureEvictor memoryPressureEvictor;
+    private WorldTemplatePool worldTemplatePool;
     private String serverType; // "LOBBY" ou "WORLDS"
     private CommandHandler commandHandler;
 
@@ -53,7 +72,12 @@ public class MinevoxelMundos extends JavaPlugin {
 
         // Inicializar banco de dados
         databaseManager = new DatabaseManager(this);
-        databaseManager.initialize();
+        if (!databaseManager.initialize()) {
+            // Consultas contra um esquema desatualizado corromperiam os dados
+            getLogger().severe("Falha ao preparar o banco de dados! Desativando o plugin...");
+            Bukkit.getPluginManager().disablePlugin(this);
+            return;
+        }
 
         // Inicializar gerenciadores
         initializeManagers();
@@ -70,18 +94,57 @@ public class MinevoxelMundos extends JavaPlugin {
         getLogger().info("MinevoxelMundos ativado com sucesso! Rodando como: " + serverType);
     }
 
+    // Geradores do plugin usados pelo Multiverse ("MinevoxelMundos:void")
+    @Override
+    public ChunkGenerator getDefaultWorldGenerator(String worldName, String id) {
+        if (VoidChunkGenerator.ID.equalsIgnoreCase(id)) {
+            return new VoidChunkGenerator();
+        }
+        return null;
+    }
+
     @Override
     public void onDisable() {
-        // Fechar conexões com o banco de dados
-        if (databaseManager != null) {
-            databaseManager.shutdown();
+        // Parar de reagir a mudanças na tabela de regras
+        if (worldRuleEvents != null) {
+            worldRuleEvents.stop();
+        }
+
+        if (entityLimitManager != null) {
+            entityLimitManager.stop();
+        }
+
+        if (redstoneLimiter != null) {
+            redstoneLimiter.stop();
+        }
+
+        if (worldProfiler != null) {
+            worldProfiler.stop();
+        }
+
+        if (worldTemplatePool != null) {
+            worldTemplatePool.stop();
+        }
+
+        if (memoryPressureEvictor != null) {
+            memoryPressureEvictor.stop();
+        }
+
+        if (idleUnloadScheduler != null) {
+            idleUnloadScheduler.stop();
         }
 
         // Salvar mundos ativos (apenas no servidor WORLDS)
-        if (serverType.equals("WORLDS") && worldManager != null) {
+        if ("WORLDS".equals(serverType) && worldManager != null) {
+            worldManager.getLoadQueue().stop();
             worldManager.saveAllWorlds();
         }
 
+        // Gravar atualizações pendentes e fechar conexões com o banco de dados
+        if (databaseManager != null) {
+            databaseManager.shutdown();
+        }
+
         getLogger().info("MinevoxelMundos desativado com sucesso!");
     }
 
@@ -130,7 +193,45 @@ public class MinevoxelMundos extends JavaPlugin {
 
         // Registrar eventos específicos do tipo de servidor
         if (serverType.equals("WORLDS")) {
+            // Perfil de carga por mundo (usado pelos eventos abaixo)
+            worldProfiler = new WorldProfiler(this);
+            worldProfiler.start();
+
+            // Descarregamento de mundos vazios, agendado pelos eventos de entrada/saída de jogadores
+            idleUnloadScheduler = new IdleUnloadScheduler(this);
             getServer().getPluginManager().registerEvents(new WorldEvents(this), this);
+            getServer().getPluginManager().registerEvents(new SafeSpawnEvents(this), this);
+            idleUnloadScheduler.start();
+
+            // Descarregar mundos vazios mais cedo quando a memória estiver alta
+            if (config.isMemoryEvictionEnabled()) {
+                memoryPressureEvictor = new MemoryPressureEvictor(this);
+                memoryPressureEvictor.start();
+            }
+
+            // Reserva de mundos pré-gerados para criação instantânea
+            if (config.isTemplatePoolEnabled()) {
+                worldTemplatePool = new WorldTemplatePool(this);
+                worldTemplatePool.start();
+            }
+
+            // Eventos de física e líquidos: registrados apenas enquanto algum mundo precisar deles
+            worldRuleEvents = new WorldRuleEvents(this);
+            worldRuleEvents.start();
+
+            // Limites de entidades por mundo
+            if (config.isEntityLimitEnabled()) {
+                entityLimitManager = new EntityLimitManager(this);
+                entityLimitManager.start();
+                getServer().getPluginManager().registerEvents(new EntityEvents(this), this);
+            }
+
+            // Limite de atividade de redstone por mundo
+            if (config.isRedstoneLimitEnabled()) {
+                redstoneLimiter = new RedstoneLimiter(this);
+                redstoneLimiter.start();
+                getServer().getPluginManager().registerEvents(new RedstoneEvents(this), this);
+            }
         }
     }
 
@@ -203,6 +304,34 @@ public class MinevoxelMundos extends JavaPlugin {
         return messageChannels;
     }
 
+    public WorldRuleEvents getWorldRuleEvents() {
+        return worldRuleEvents;
+    }
+
+    public EntityLimitManager getEntityLimitManager() {
+        return entityLimitManager;
+    }
+
+    public RedstoneLimiter getRedstoneLimiter() {
+        return redstoneLimiter;
+    }
+
+    public WorldProfiler getWorldProfiler() {
+        return worldProfiler;
+    }
+
+    public IdleUnloadScheduler getIdleUnloadScheduler() {
+        return idleUnloadScheduler;
+    }
+
+    public MemoryPressureEvictor getMemoryPressureEvictor() {
+        return memoryPressureEvictor;
+    }
+
+    public WorldTemplatePool getWorldTemplatePool() {
+        return worldTemplatePool;
+    }
+
     public String getServerType() {
         return serverType;
     }
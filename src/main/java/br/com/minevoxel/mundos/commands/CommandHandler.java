@@ -1,7 +1,10 @@
 package br.com.minevoxel.mundos.commands;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.database.AccessibleWorldsBenchmark;
+import br.com.minevoxel.mundos.managers.WorldProfiler;
 import br.com.minevoxel.mundos.models.WorldData;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.GameMode;
 import org.bukkit.command.Command;
@@ -20,7 +23,7 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
 
     private final MinevoxelMundos plugin;
     private final List<String> subCommands = Arrays.asList(
-            "criar", "listar", "carregar", "descarregar", "ir", "info", "config", "remover"
+            "criar", "listar", "carregar", "descarregar", "ir", "info", "config", "remover", "perfil", "benchmark"
     );
 
     public CommandHandler(MinevoxelMundos plugin) {
@@ -69,6 +72,12 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
             case "remover":
                 handleRemoveCommand(player, args);
                 break;
+            case "perfil":
+                handleProfileCommand(player, args);
+                break;
+            case "benchmark":
+                handleBenchmarkCommand(player, args);
+                break;
             default:
                 // Comando desconhecido, mostrar ajuda
                 showHelp(player);
@@ -312,6 +321,84 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         });
     }
 
+    private void handleProfileCommand(Player player, String[] args) {
+        if (!player.hasPermission("minevoxel.mundo.admin.perfil")) {
+            player.sendMessage(plugin.getMessages().getMessage("general.no-permission"));
+            return;
+        }
+
+        if (!plugin.isWorldsServer()) {
+            player.sendMessage(ChatColor.RED + "Este comando só pode ser usado no servidor de mundos!");
+            return;
+        }
+
+        WorldProfiler.SortOrder order = WorldProfiler.SortOrder.TEMPO;
+        if (args.length >= 2) {
+            try {
+                order = WorldProfiler.SortOrder.valueOf(args[1].toUpperCase());
+            } catch (IllegalArgumentException e) {
+                player.sendMessage(ChatColor.RED + "Uso: /mundo perfil [tempo|entidades|chunks|blocos]");
+                return;
+            }
+        }
+
+        WorldProfiler profiler = plugin.getWorldProfiler();
+        List<String> lines = profiler.format(profiler.snapshot(order), 10);
+
+        player.sendMessage(ChatColor.GREEN + "=== " + lines.get(0) + " ===");
+        for (int i = 1; i < lines.size(); i++) {
+            player.sendMessage(ChatColor.YELLOW + lines.get(i));
+        }
+
+        // Resumo dos limitadores, quando ativos
+        if (plugin.getEntityLimitManager() != null) {
+            player.sendMessage(ChatColor.GRAY + plugin.getEntityLimitManager().getStatus().get(0));
+        }
+
+        if (plugin.getRedstoneLimiter() != null) {
+            player.sendMessage(ChatColor.GRAY + plugin.getRedstoneLimiter().getStatus().get(0));
+        }
+    }
+
+    // Compara a consulta de mundos acessíveis atual com a antiga no banco de dados real
+    private void handleBenchmarkCommand(Player player, String[] args) {
+        if (!player.hasPermission("minevoxel.mundo.admin.benchmark")) {
+            player.sendMessage(plugin.getMessages().getMessage("general.no-permission"));
+            return;
+        }
+
+        int iterations = 20;
+        if (args.length >= 2) {
+            try {
+                iterations = Math.max(1, Math.min(200, Integer.parseInt(args[1])));
+            } catch (NumberFormatException e) {
+                player.sendMessage(ChatColor.RED + "Uso: /mundo benchmark [repetições] [jogador]");
+                return;
+            }
+        }
+
+        // Por padrão mede os mundos acessíveis do próprio jogador
+        UUID targetUUID = player.getUniqueId();
+        if (args.length >= 3) {
+            Player target = Bukkit.getPlayerExact(args[2]);
+            if (target == null) {
+                player.sendMessage(ChatColor.RED + "Jogador não encontrado: " + args[2]);
+                return;
+            }
+            targetUUID = target.getUniqueId();
+        }
+
+        player.sendMessage(ChatColor.YELLOW + "Executando benchmark com " + iterations + " repetições...");
+
+        // Mesmo tamanho de página da lista de mundos
+        new AccessibleWorldsBenchmark(plugin, plugin.getDatabaseManager()).run(targetUUID, iterations, 36).thenAccept(lines -> {
+            player.sendMessage(ChatColor.GREEN + "=== Benchmark de mundos acessíveis ===");
+            for (String line : lines) {
+                player.sendMessage(ChatColor.YELLOW + line);
+            }
+        });
+    }
+
     private void showHelp(Player player) {
         player.sendMessage(ChatColor.GREEN + "=== MinevoxelMundos - Ajuda ===");
         player.sendMessage(ChatColor.YELLOW + "/mundo " + ChatColor.WHITE + "- Abre o menu principal");
@@ -325,6 +412,8 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
         if (player.hasPermission("minevoxel.mundo.admin")) {
             player.sendMessage(ChatColor.YELLOW + "/mundo carregar <nome> " + ChatColor.WHITE + "- Carrega um mundo");
             player.sendMessage(ChatColor.YELLOW + "/mundo descarregar <nome> " + ChatColor.WHITE + "- Descarrega um mundo");
+            player.sendMessage(ChatColor.YELLOW + "/mundo perfil [ordem] " + ChatColor.WHITE + "- Mostra os mundos mais pesados");
+            player.sendMessage(ChatColor.YELLOW + "/mundo benchmark [repetições] " + ChatColor.WHITE + "- Compara as consultas de mundos acessíveis");
         }
     }
 
@@ -349,12 +438,21 @@ public class CommandHandler implements CommandExecutor, TabCompleter {
                             case "remover": return player.hasPermission("minevoxel.mundo.remover");
                             case "carregar": return player.hasPermission("minevoxel.mundo.admin.carregar");
                             case "descarregar": return player.hasPermission("minevoxel.mundo.admin.descarregar");
+                            case "perfil": return player.hasPermission("minevoxel.mundo.admin.perfil");
+                            case "benchmark": return player.hasPermission("minevoxel.mundo.admin.benchmark");
                             default: return false;
                         }
                     })
                     .collect(Collectors.toList());
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("perfil")) {
+            return Arrays.stream(WorldProfiler.SortOrder.values())
+                    .map(order -> order.name().toLowerCase())
+                    .filter(order -> order.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
         return new ArrayList<>();
     }
 }
\ No newline at end of file
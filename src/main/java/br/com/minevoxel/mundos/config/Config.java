@@ -1,6 +1,7 @@
 package br.com.minevoxel.mundos.config;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
@@ -165,6 +166,182 @@ public class Config {
         return config.getBoolean("database.useSSL", false);
     }
 
+    public int getDatabasePoolMinimumIdle() {
+        return config.getInt("database.pool.minimum-idle", 2);
+    }
+
+    public int getDatabasePoolMaximumSize() {
+        return config.getInt("database.pool.maximum-size", 10);
+    }
+
+    public long getDatabasePoolConnectionTimeout() {
+        return config.getLong("database.pool.connection-timeout", 5000L);
+    }
+
+    public long getDatabasePoolIdleTimeout() {
+        return config.getLong("database.pool.idle-timeout", 600000L);
+    }
+
+    public long getDatabasePoolMaxLifetime() {
+        return config.getLong("database.pool.max-lifetime", 1800000L);
+    }
+
+    public String getDatabasePoolValidationQuery() {
+        return config.getString("database.pool.validation-query", "");
+    }
+
+    public long getDatabasePoolLeakDetectionThreshold() {
+        return config.getLong("database.pool.leak-detection-threshold", 0L);
+    }
+
+    public int getDatabaseExecutorReadThreads() {
+        return config.getInt("database.executor.read-threads", 3);
+    }
+
+    public int getDatabaseExecutorReadQueueSize() {
+        return config.getInt("database.executor.read-queue-size", 256);
+    }
+
+    public int getDatabaseExecutorWriteThreads() {
+        return config.getInt("database.executor.write-threads", 2);
+    }
+
+    public int getDatabaseExecutorWriteQueueSize() {
+        return config.getInt("database.executor.write-queue-size", 1024);
+    }
+
+    public String getDatabaseExecutorBackpressurePolicy() {
+        return config.getString("database.executor.backpressure-policy", "CALLER_RUNS");
+    }
+
+    public int getDatabaseWriteBehindInterval() {
+        return config.getInt("database.write-behind.flush-interval", 30);
+    }
+
+    public int getDatabaseWriteBehindMaxAttempts() {
+        return config.getInt("database.write-behind.max-attempts", 3);
+    }
+
+    public int getDatabaseCacheMaxSize() {
+        return config.getInt("database.cache.max-size", 1000);
+    }
+
+    public int getDatabaseCacheTtl() {
+        return config.getInt("database.cache.ttl", 300);
+    }
+
+    public boolean isEntityLimitEnabled() {
+        return config.getBoolean("entities.enabled", true);
+    }
+
+    public int getEntityLimitResyncInterval() {
+        return config.getInt("entities.resync-interval", 30);
+    }
+
+    public ConfigurationSection getEntityTiers() {
+        return config.getConfigurationSection("entities.tiers");
+    }
+
+    public boolean isRedstoneLimitEnabled() {
+        return config.getBoolean("redstone.enabled", true);
+    }
+
+    public int getRedstoneWindowTicks() {
+        return config.getInt("redstone.window-ticks", 20);
+    }
+
+    public int getRedstoneMaxUpdates() {
+        return config.getInt("redstone.max-updates", 2000);
+    }
+
+    public int getRedstoneFreezeAfter() {
+        return config.getInt("redstone.freeze-after", 5);
+    }
+
+    public int getRedstoneFreezeSeconds() {
+        return config.getInt("redstone.freeze-seconds", 60);
+    }
+
+    public boolean isProfilerEnabled() {
+        return config.getBoolean("profiler.enabled", true);
+    }
+
+    public int getProfilerLogInterval() {
+        return config.getInt("profiler.log-interval", 15);
+    }
+
+    public int getProfilerLogTop() {
+        return config.getInt("profiler.log-top", 10);
+    }
+
+    public int getProfilerTileScanChunksPerTick() {
+        return config.getInt("profiler.tile-scan-chunks-per-tick", 20);
+    }
+
+    public boolean isMemoryEvictionEnabled() {
+        return config.getBoolean("memory.enabled", true);
+    }
+
+    public int getMemoryCheckInterval() {
+        return config.getInt("memory.check-interval", 10);
+    }
+
+    public int getMemoryHighWatermark() {
+        return config.getInt("memory.high-watermark", 85);
+    }
+
+    public int getMemoryLowWatermark() {
+        return config.getInt("memory.low-watermark", 70);
+    }
+
+    public int getMemoryMaxChunks() {
+        return config.getInt("memory.max-chunks", 0);
+    }
+
+    public int getMemoryEvictionsPerCheck() {
+        return config.getInt("memory.evictions-per-check", 3);
+    }
+
+    public int getTeleportPreloadRadius() {
+        return config.getInt("teleport.preload-radius", 2);
+    }
+
+    public int getTeleportPreloadChunksPerTick() {
+        return config.getInt("teleport.preload-chunks-per-tick", 4);
+    }
+
+    public int getWorldLoadInterval() {
+        return config.getInt("world-loading.interval-ticks", 10);
+    }
+
+    public int getWorldLoadSlowThreshold() {
+        return config.getInt("world-loading.slow-threshold", 1000);
+    }
+
+    public boolean isTemplatePoolEnabled() {
+        return config.getBoolean("template-pool.enabled", true);
+    }
+
+    public int getTemplatePoolSize() {
+        return config.getInt("template-pool.size", 2);
+    }
+
+    public List<String> getTemplatePoolPresets() {
+        return config.getStringList("template-pool.presets");
+    }
+
+    public int getTemplatePoolInterval() {
+        return config.getInt("template-pool.interval", 60);
+    }
+
+    public boolean isTemplatePoolOnlyWhenEmpty() {
+        return config.getBoolean("template-pool.only-when-empty", true);
+    }
+
+    public double getTemplatePoolMinTps() {
+        return config.getDouble("template-pool.min-tps", 19.5);
+    }
+
     public boolean isWorldPublicByDefault() {
         return config.getBoolean("worlds.public-by-default", false);
     }
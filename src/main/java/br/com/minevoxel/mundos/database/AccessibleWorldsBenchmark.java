@@ -0,0 +1,139 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+// Compara a consulta de mundos acessíveis atual (UNION de ramos indexados) com a consulta antiga
+// (LEFT JOIN com OR) no banco real: mostra o EXPLAIN de cada uma e o tempo de várias execuções.
+// Usado pelo comando /mundo benchmark; roda na lane de leitura.
+public class AccessibleWorldsBenchmark {
+
+    // Consulta usada antes do UNION, adaptada às colunas binárias atuais
+    private static final String LEGACY_SQL =
+            "SELECT w.* FROM minevoxel_worlds w " +
+                    "LEFT JOIN minevoxel_world_permissions p ON p.world_id = w.id AND p.player_uuid = ? " +
+                    "WHERE (w.is_public = TRUE OR w.owner_uuid = ? OR p.player_uuid IS NOT NULL) " +
+                    "ORDER BY w.last_accessed DESC, w.id DESC LIMIT ?";
+
+    private final MinevoxelMundos plugin;
+    private final DatabaseManager databaseManager;
+
+    public AccessibleWorldsBenchmark(MinevoxelMundos plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+    }
+
+    public CompletableFuture<List<String>> run(UUID playerUUID, int iterations, int pageSize) {
+        return databaseManager.getExecutor().supplyRead(() -> {
+            List<String> lines = new ArrayList<>();
+
+            byte[] playerBytes = WorldRowCodec.uuidToBytes(playerUUID);
+            List<Object> legacyParams = Arrays.asList(playerBytes, playerBytes, pageSize + 1);
+
+            String unionSql = DatabaseManager.buildAccessibleWorldsSql(false, true);
+            List<Object> unionParams = DatabaseManager.accessibleWorldsParams(playerUUID, null, pageSize);
+
+            try (Connection conn = databaseManager.getConnector().getConnection()) {
+                lines.add("EXPLAIN consulta antiga (LEFT JOIN + OR):");
+                lines.addAll(explain(conn, LEGACY_SQL, legacyParams));
+                lines.add("EXPLAIN consulta atual (UNION):");
+                lines.addAll(explain(conn, unionSql, unionParams));
+
+                // Uma execução de aquecimento de cada, depois alternar para não favorecer nenhuma com o cache
+                execute(conn, LEGACY_SQL, legacyParams);
+                execute(conn, unionSql, unionParams);
+
+                long[] legacyTimes = new long[iterations];
+                long[] unionTimes = new long[iterations];
+                int legacyRows = 0;
+                int unionRows = 0;
+
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    legacyRows = execute(conn, LEGACY_SQL, legacyParams);
+                    legacyTimes[i] = System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    unionRows = execute(conn, unionSql, unionParams);
+                    unionTimes[i] = System.nanoTime() - start;
+                }
+
+                lines.add(formatTimes("Antiga", legacyTimes, legacyRows));
+                lines.add(formatTimes("UNION", unionTimes, unionRows));
+
+            } catch (SQLException e) {
+                plugin.getLogger().severe("Erro ao comparar consultas de mundos acessíveis: " + e.getMessage());
+                e.printStackTrace();
+                lines.add("Erro ao executar o benchmark: " + e.getMessage());
+            }
+
+            for (String line : lines) {
+                plugin.getLogger().info("[Benchmark] " + line);
+            }
+            return lines;
+        });
+    }
+
+    private List<String> explain(Connection conn, String sql, List<Object> params) throws SQLException {
+        List<String> rows = new ArrayList<>();
+
+        try (PreparedStatement stmt = prepare(conn, "EXPLAIN " + sql, params);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rows.add("  " + rs.getString("table") +
+                        " tipo=" + rs.getString("type") +
+                        " índice=" + rs.getString("key") +
+                        " linhas=" + rs.getString("rows") +
+                        " extra=" + rs.getString("Extra"));
+            }
+        }
+
+        return rows;
+    }
+
+    // Lê todas as linhas, como a consulta real faria; retorna quantas vieram
+    private int execute(Connection conn, String sql, List<Object> params) throws SQLException {
+        int rows = 0;
+
+        try (PreparedStatement stmt = prepare(conn, sql, params);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+
+        return rows;
+    }
+
+    private PreparedStatement prepare(Connection conn, String sql, List<Object> params) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        for (int i = 0; i < params.size(); i++) {
+            stmt.setObject(i + 1, params.get(i));
+        }
+        return stmt;
+    }
+
+    private String formatTimes(String name, long[] times, int rows) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+
+        long total = 0;
+        for (long time : sorted) {
+            total += time;
+        }
+
+        int p95Index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.95) - 1);
+        return String.format("%s: %d execuções, %d linhas, média=%.2fms, mín=%.2fms, p95=%.2fms, máx=%.2fms",
+                name, sorted.length, rows,
+                total / (double) sorted.length / 1_000_000.0,
+                sorted[0] / 1_000_000.0,
+                sorted[p95Index] / 1_000_000.0,
+                sorted[sorted.length - 1] / 1_000_000.0);
+    }
+}
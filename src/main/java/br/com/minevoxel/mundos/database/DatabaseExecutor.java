@@ -0,0 +1,270 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import org.bukkit.Bukkit;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class DatabaseExecutor {
+
+    public enum BackpressurePolicy {
+        CALLER_RUNS, // Executa na thread que enviou a tarefa (nunca na thread principal)
+        ABORT        // Rejeita a tarefa e completa o future com erro
+    }
+
+    private final MinevoxelMundos plugin;
+    private final Lane readLane;
+    private final Lane writeLane;
+
+    public DatabaseExecutor(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+
+        Config config = plugin.getConfigManager();
+        BackpressurePolicy policy = parsePolicy(config.getDatabaseExecutorBackpressurePolicy());
+
+        this.readLane = new Lane("read",
+                config.getDatabaseExecutorReadThreads(),
+                config.getDatabaseExecutorReadQueueSize(),
+                policy);
+        this.writeLane = new Lane("write",
+                config.getDatabaseExecutorWriteThreads(),
+                config.getDatabaseExecutorWriteQueueSize(),
+                policy);
+    }
+
+    private BackpressurePolicy parsePolicy(String value) {
+        try {
+            return BackpressurePolicy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            plugin.getLogger().warning("Política de backpressure inválida: " + value + ". Usando CALLER_RUNS.");
+            return BackpressurePolicy.CALLER_RUNS;
+        }
+    }
+
+    // Consultas que alimentam menus e comandos dos jogadores
+    public <T> CompletableFuture<T> supplyRead(Supplier<T> task) {
+        return readLane.supply(task);
+    }
+
+    // Escritas (criação, atualização, remoção)
+    public <T> CompletableFuture<T> supplyWrite(Supplier<T> task) {
+        return writeLane.supply(task);
+    }
+
+    public CompletableFuture<Void> runWrite(Runnable task) {
+        return writeLane.supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public void shutdown(long timeoutSeconds) {
+        // Leituras pendentes podem ser descartadas; escritas devem terminar
+        readLane.abortPending();
+        writeLane.executor.shutdown();
+
+        try {
+            if (!writeLane.executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Tempo esgotado aguardando escritas pendentes no banco de dados ("
+                        + writeLane.getQueueDepth() + " na fila)");
+                writeLane.abortPending();
+            }
+        } catch (InterruptedException e) {
+            writeLane.abortPending();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Tarefa na fila de uma lane; guarda o future para completá-lo com erro se for descartada
+    private static class PendingTask implements Runnable {
+
+        private final Runnable task;
+        private final CompletableFuture<?> future;
+
+        private PendingTask(Runnable task, CompletableFuture<?> future) {
+            this.task = task;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    public Lane getReadLane() {
+        return readLane;
+    }
+
+    public Lane getWriteLane() {
+        return writeLane;
+    }
+
+    public class Lane {
+
+        private final String name;
+        private final int queueCapacity;
+        private final BackpressurePolicy policy;
+        private final ThreadPoolExecutor executor;
+
+        // Métricas
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private Lane(String name, int threads, int queueCapacity, BackpressurePolicy policy) {
+            this.name = name;
+            this.queueCapacity = Math.max(1, queueCapacity);
+            this.policy = policy;
+
+            int poolSize = Math.max(1, threads);
+            AtomicInteger threadCount = new AtomicInteger();
+
+            this.executor = new ThreadPoolExecutor(
+                    poolSize, poolSize,
+                    60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(this.queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "MinevoxelMundos-DB-" + name + "-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+
+        private <T> CompletableFuture<T> supply(Supplier<T> task) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            long enqueuedAt = System.nanoTime();
+
+            Runnable wrapped = new PendingTask(() -> {
+                long startedAt = System.nanoTime();
+                recordWait(startedAt - enqueuedAt);
+
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    totalRunNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            }, future);
+
+            submitted.increment();
+
+            try {
+                executor.execute(wrapped);
+            } catch (RejectedExecutionException e) {
+                handleRejected(wrapped, future, e);
+            }
+
+            return future;
+        }
+
+        private <T> void handleRejected(Runnable task, CompletableFuture<T> future, RejectedExecutionException e) {
+            // Nunca bloquear a thread principal com acesso ao banco
+            if (policy == BackpressurePolicy.CALLER_RUNS && !executor.isShutdown() && !Bukkit.isPrimaryThread()) {
+                callerRuns.increment();
+                task.run();
+                return;
+            }
+
+            rejected.increment();
+            plugin.getLogger().warning("Fila de banco de dados (" + name + ") cheia, tarefa rejeitada ("
+                    + getQueueDepth() + "/" + queueCapacity + ")");
+            future.completeExceptionally(e);
+        }
+
+        // Interrompe a lane; tarefas que ainda estavam na fila completam com erro, para que
+        // quem encadeou nelas não fique esperando para sempre
+        private void abortPending() {
+            List<Runnable> pending = executor.shutdownNow();
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            CancellationException cancelled = new CancellationException("Fila de banco de dados (" + name + ") encerrada");
+            for (Runnable runnable : pending) {
+                if (runnable instanceof PendingTask) {
+                    ((PendingTask) runnable).future.completeExceptionally(cancelled);
+                }
+            }
+
+            plugin.getLogger().warning(pending.size() + " tarefas descartadas na fila de banco de dados (" + name + ")");
+        }
+
+        private void recordWait(long waitNanos) {
+            totalWaitNanos.add(waitNanos);
+
+            long currentMax;
+            do {
+                currentMax = maxWaitNanos.get();
+                if (waitNanos <= currentMax) {
+                    return;
+                }
+            } while (!maxWaitNanos.compareAndSet(currentMax, waitNanos));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQueueDepth() {
+            return executor.getQueue().size();
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public int getActiveThreads() {
+            return executor.getActiveCount();
+        }
+
+        public long getSubmittedCount() {
+            return submitted.sum();
+        }
+
+        public long getCompletedCount() {
+            return completed.sum();
+        }
+
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+
+        public long getCallerRunsCount() {
+            return callerRuns.sum();
+        }
+
+        public double getAverageWaitMillis() {
+            long count = completed.sum();
+            return count == 0 ? 0 : totalWaitNanos.sum() / (double) count / 1_000_000.0;
+        }
+
+        public double getAverageRunMillis() {
+            long count = completed.sum();
+            return count == 0 ? 0 : totalRunNanos.sum() / (double) count / 1_000_000.0;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos.get() / 1_000_000.0;
+        }
+
+        public String getStatus() {
+            return String.format("%s: fila=%d/%d, ativas=%d, concluídas=%d, rejeitadas=%d, espera média=%.1fms (máx %.1fms), execução média=%.1fms",
+                    name, getQueueDepth(), queueCapacity, getActiveThreads(), getCompletedCount(),
+                    getRejectedCount(), getAverageWaitMillis(), getMaxWaitMillis(), getAverageRunMillis());
+        }
+    }
+}
@@ -2,76 +2,69 @@ package br.com.minevoxel.mundos.database;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
 import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.models.WorldPage;
 import org.bukkit.Bukkit;
-import org.bukkit.GameMode;
 
 import java.sql.*;
 import java.util.*;
 import java.util.Date;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class DatabaseManager {
 
     private final MinevoxelMundos plugin;
     private MySQLConnector connector;
-    private ExecutorService executorService;
+    private DatabaseExecutor executor;
+    private WorldWriteQueue writeQueue;
+    private WorldDataCache cache;
+
+    // Máximo de mundos por UPDATE de último acesso
+    private static final int TOUCH_BATCH_SIZE = 500;
+
+    // Máximo de mundos por consulta de permissões
+    private static final int PERMISSION_LOAD_BATCH_SIZE = 500;
 
     // Consultas SQL
-    private static final String CREATE_WORLDS_TABLE =
-            "CREATE TABLE IF NOT EXISTS minevoxel_worlds (" +
-                    "id INT PRIMARY KEY AUTO_INCREMENT, " +
-                    "world_name VARCHAR(64) UNIQUE NOT NULL, " +
-                    "display_name VARCHAR(64) NOT NULL, " +
-                    "owner_uuid VARCHAR(36) NOT NULL, " +
-                    "owner_name VARCHAR(16) NOT NULL, " +
-                    "creation_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "last_accessed TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "world_type VARCHAR(32) DEFAULT 'NORMAL', " +
-                    "environment VARCHAR(32) DEFAULT 'NORMAL', " +
-                    "pvp BOOLEAN DEFAULT FALSE, " +
-                    "generate_structures BOOLEAN DEFAULT TRUE, " +
-                    "seed BIGINT DEFAULT 0, " +
-                    "game_mode VARCHAR(32) DEFAULT 'SURVIVAL', " +
-                    "physics BOOLEAN DEFAULT TRUE, " +
-                    "water_flow BOOLEAN DEFAULT TRUE, " +
-                    "lava_flow BOOLEAN DEFAULT TRUE, " +
-                    "fire_spread BOOLEAN DEFAULT TRUE, " +
-                    "leaf_decay BOOLEAN DEFAULT TRUE, " +
-                    "redstone BOOLEAN DEFAULT TRUE, " +
-                    "mob_spawning BOOLEAN DEFAULT TRUE, " +
-                    "animal_spawning BOOLEAN DEFAULT TRUE, " +
-                    "is_public BOOLEAN DEFAULT FALSE, " +
-                    "INDEX(owner_uuid), " +
-                    "INDEX(world_name))";
-
-    private static final String CREATE_PERMISSIONS_TABLE =
-            "CREATE TABLE IF NOT EXISTS minevoxel_world_permissions (" +
-                    "id INT PRIMARY KEY AUTO_INCREMENT, " +
-                    "world_id INT NOT NULL, " +
-                    "player_uuid VARCHAR(36) NOT NULL, " +
-                    "permission VARCHAR(32) NOT NULL, " +
-                    "FOREIGN KEY (world_id) REFERENCES minevoxel_worlds(id) ON DELETE CASCADE, " +
-                    "UNIQUE KEY unique_world_player (world_id, player_uuid))";
+    private static final String UPDATE_WORLD =
+            "UPDATE minevoxel_worlds SET " +
+                    "display_name = ?, last_accessed = ?, " +
+                    "world_type = ?, environment = ?, pvp = ?, generate_structures = ?, " +
+                    "seed = ?, game_mode = ?, rule_flags = ?, is_public = ? " +
+                    "WHERE id = ?";
 
     public DatabaseManager(MinevoxelMundos plugin) {
         this.plugin = plugin;
-        this.executorService = Executors.newFixedThreadPool(3);
+        this.executor = new DatabaseExecutor(plugin);
+        this.writeQueue = new WorldWriteQueue(plugin, this);
+        this.cache = new WorldDataCache(
+                plugin.getConfigManager().getDatabaseCacheMaxSize(),
+                plugin.getConfigManager().getDatabaseCacheTtl());
     }
 
-    public void initialize() {
+    // Retorna false se o esquema não pôde ser atualizado; nesse caso o plugin não deve continuar
+    public boolean initialize() {
         // Inicializar conexão com o banco de dados
         connector = new MySQLConnector(plugin);
 
-        // Criar tabelas se não existirem
-        createTables();
+        // Criar tabelas e aplicar migrações pendentes
+        if (!createTables()) {
+            return false;
+        }
+
+        // Iniciar gravação periódica das atualizações enfileiradas
+        writeQueue.start();
+        return true;
     }
 
     public void shutdown() {
-        // Desligar executorService
-        if (executorService != null) {
-            executorService.shutdown();
+        // Gravar atualizações pendentes antes de desligar o executor
+        if (writeQueue != null) {
+            writeQueue.shutdown();
+        }
+
+        // Desligar executor, aguardando escritas pendentes
+        if (executor != null) {
+            executor.shutdown(10);
         }
 
         // Fechar conexão com o banco de dados
@@ -80,57 +73,94 @@ public class DatabaseManager {
         }
     }
 
-    private void createTables() {
-        CompletableFuture.runAsync(() -> {
-            try (Connection conn = connector.getConnection();
-                 Statement stmt = conn.createStatement()) {
+    public MySQLConnector getConnector() {
+        return connector;
+    }
 
-                // Criar tabela de mundos
-                stmt.execute(CREATE_WORLDS_TABLE);
+    public DatabaseExecutor getExecutor() {
+        return executor;
+    }
 
-                // Criar tabela de permissões
-                stmt.execute(CREATE_PERMISSIONS_TABLE);
+    public WorldWriteQueue getWriteQueue() {
+        return writeQueue;
+    }
 
-                plugin.getLogger().info("Tabelas do banco de dados criadas ou verificadas com sucesso!");
+    public WorldDataCache getCache() {
+        return cache;
+    }
 
-            } catch (SQLException e) {
-                plugin.getLogger().severe("Erro ao criar tabelas do banco de dados: " + e.getMessage());
-                e.printStackTrace();
+    // O mundo foi gravado por outro servidor: descarta a cópia em cache e a versão pendente da fila,
+    // que é mais antiga que a linha gravada e a sobrescreveria na próxima gravação em lote
+    public void invalidateWorld(int worldId) {
+        writeQueue.discard(worldId);
+        cache.invalidate(worldId);
+    }
+
+    // Relê a linha gravada no banco, ignorando a fila e o cache (usado ao receber o aviso de outro servidor)
+    public CompletableFuture<WorldData> reloadWorld(int worldId) {
+        invalidateWorld(worldId);
+        return fetchWorld(worldId, cache.getGeneration());
+    }
+
+    // Avisa os outros servidores que os mundos foram gravados, para que descartem as cópias em cache.
+    // Chamado depois do commit, na thread do banco; a mensagem sai pela thread principal
+    private void notifyWorldsUpdated(List<Integer> worldIds) {
+        // Durante o desligamento não é possível agendar tarefas
+        if (worldIds.isEmpty() || !plugin.isEnabled() || plugin.getMessageChannels() == null) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            // Mensagens de plugin precisam de um jogador online; sem jogadores o cache expira pelo TTL
+            if (!Bukkit.getOnlinePlayers().isEmpty()) {
+                plugin.getMessageChannels().sendWorldsUpdatedMessage(worldIds);
             }
-        }, executorService);
+        });
+    }
+
+    private boolean createTables() {
+        // Executado na inicialização, antes de qualquer consulta, para que o esquema esteja atualizado
+        try (Connection conn = connector.getConnection()) {
+            SchemaMigrator migrator = new SchemaMigrator(plugin);
+
+            if (migrator.migrate(conn)) {
+                plugin.getLogger().info("Tabelas do banco de dados criadas ou verificadas com sucesso!");
+                return true;
+            }
+
+            plugin.getLogger().severe("O esquema do banco de dados não foi atualizado para a versão " + migrator.getLatestVersion() + "!");
+            return false;
+
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Erro ao criar tabelas do banco de dados: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
     }
 
     // Métodos para gerenciar mundos
     public CompletableFuture<Integer> createWorld(WorldData worldData) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.supplyWrite(() -> {
             try (Connection conn = connector.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                          "INSERT INTO minevoxel_worlds (world_name, display_name, owner_uuid, owner_name, " +
                                  "world_type, environment, pvp, generate_structures, seed, game_mode, " +
-                                 "physics, water_flow, lava_flow, fire_spread, leaf_decay, redstone, " +
-                                 "mob_spawning, animal_spawning, is_public) " +
-                                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                 "rule_flags, is_public) " +
+                                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
                          Statement.RETURN_GENERATED_KEYS)) {
 
                 stmt.setString(1, worldData.getWorldName());
                 stmt.setString(2, worldData.getDisplayName());
-                stmt.setString(3, worldData.getOwnerUUID().toString());
+                stmt.setBytes(3, WorldRowCodec.uuidToBytes(worldData.getOwnerUUID()));
                 stmt.setString(4, worldData.getOwnerName());
-                stmt.setString(5, worldData.getWorldType());
-                stmt.setString(6, worldData.getEnvironment());
+                stmt.setInt(5, WorldRowCodec.worldTypeToCode(worldData.getWorldType()));
+                stmt.setInt(6, WorldRowCodec.environmentToCode(worldData.getEnvironment()));
                 stmt.setBoolean(7, worldData.isPvp());
                 stmt.setBoolean(8, worldData.isGenerateStructures());
                 stmt.setLong(9, worldData.getSeed());
-                stmt.setString(10, worldData.getGameMode().name());
-                stmt.setBoolean(11, worldData.isPhysics());
-                stmt.setBoolean(12, worldData.isWaterFlow());
-                stmt.setBoolean(13, worldData.isLavaFlow());
-                stmt.setBoolean(14, worldData.isFireSpread());
-                stmt.setBoolean(15, worldData.isLeafDecay());
-                stmt.setBoolean(16, worldData.isRedstone());
-                stmt.setBoolean(17, worldData.isMobSpawning());
-                stmt.setBoolean(18, worldData.isAnimalSpawning());
-                stmt.setBoolean(19, worldData.isPublic());
+                stmt.setInt(10, WorldRowCodec.gameModeToCode(worldData.getGameMode()));
+                stmt.setInt(11, WorldRowCodec.packRules(worldData));
+                stmt.setBoolean(12, worldData.isPublic());
 
                 int affectedRows = stmt.executeUpdate();
 
@@ -143,8 +173,9 @@ public class DatabaseManager {
                         int worldId = generatedKeys.getInt(1);
                         worldData.setId(worldId);
 
-                        // Inserir permissões para o mundo
+                        // Inserir permissões para o mundo (todas já estão gravadas, descartar alterações pendentes)
                         saveWorldPermissions(conn, worldData);
+                        worldData.drainPermissionChanges();
 
                         return worldId;
                     } else {
@@ -157,62 +188,192 @@ public class DatabaseManager {
                 e.printStackTrace();
                 return -1;
             }
-        }, executorService);
+        });
     }
 
     public CompletableFuture<Boolean> updateWorld(WorldData worldData) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = connector.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(
-                         "UPDATE minevoxel_worlds SET " +
-                                 "display_name = ?, last_accessed = ?, " +
-                                 "world_type = ?, environment = ?, pvp = ?, generate_structures = ?, " +
-                                 "seed = ?, game_mode = ?, physics = ?, water_flow = ?, lava_flow = ?, " +
-                                 "fire_spread = ?, leaf_decay = ?, redstone = ?, mob_spawning = ?, " +
-                                 "animal_spawning = ?, is_public = ? " +
-                                 "WHERE id = ?")) {
-
-                stmt.setString(1, worldData.getDisplayName());
-                stmt.setTimestamp(2, new Timestamp(new Date().getTime()));
-                stmt.setString(3, worldData.getWorldType());
-                stmt.setString(4, worldData.getEnvironment());
-                stmt.setBoolean(5, worldData.isPvp());
-                stmt.setBoolean(6, worldData.isGenerateStructures());
-                stmt.setLong(7, worldData.getSeed());
-                stmt.setString(8, worldData.getGameMode().name());
-                stmt.setBoolean(9, worldData.isPhysics());
-                stmt.setBoolean(10, worldData.isWaterFlow());
-                stmt.setBoolean(11, worldData.isLavaFlow());
-                stmt.setBoolean(12, worldData.isFireSpread());
-                stmt.setBoolean(13, worldData.isLeafDecay());
-                stmt.setBoolean(14, worldData.isRedstone());
-                stmt.setBoolean(15, worldData.isMobSpawning());
-                stmt.setBoolean(16, worldData.isAnimalSpawning());
-                stmt.setBoolean(17, worldData.isPublic());
-                stmt.setInt(18, worldData.getId());
+        return executor.supplyWrite(() -> {
+            WorldData.PermissionChanges changes = worldData.drainPermissionChanges();
+
+            try (Connection conn = connector.getConnection()) {
+                boolean autoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+
+                try (PreparedStatement stmt = conn.prepareStatement(UPDATE_WORLD)) {
+                    bindWorldUpdate(stmt, worldData, new Timestamp(new Date().getTime()));
+
+                    int affectedRows = stmt.executeUpdate();
+
+                    // Aplicar apenas as permissões alteradas
+                    if (affectedRows > 0) {
+                        applyPermissionChanges(conn, Collections.singletonMap(worldData.getId(), changes));
+                        conn.commit();
+                        writeQueue.supersede(worldData);
+                        cache.update(worldData);
+                        notifyWorldsUpdated(Collections.singletonList(worldData.getId()));
+                        return true;
+                    }
 
-                int affectedRows = stmt.executeUpdate();
+                    conn.rollback();
+                    return false;
 
-                // Atualizar permissões
-                if (affectedRows > 0) {
-                    // Limpar permissões antigas e inserir novas
-                    clearWorldPermissions(conn, worldData.getId());
-                    saveWorldPermissions(conn, worldData);
-                    return true;
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(autoCommit);
                 }
 
-                return false;
-
             } catch (SQLException e) {
+                worldData.restorePermissionChanges(changes);
                 plugin.getLogger().severe("Erro ao atualizar mundo no banco de dados: " + e.getMessage());
                 e.printStackTrace();
                 return false;
             }
-        }, executorService);
+        });
+    }
+
+    // Enfileira a atualização para ser gravada em lote pelo write-behind.
+    // Até a gravação, as leituras do mundo usam a versão pendente da fila; o cache só recebe a nova
+    // versão depois que o lote for gravado com sucesso
+    public void queueWorldUpdate(WorldData worldData) {
+        writeQueue.markDirty(worldData);
+        cache.invalidate(worldData.getId());
+    }
+
+    // Registra o último acesso do mundo; gravado em lote apenas na coluna last_accessed
+    public void touchWorld(WorldData worldData) {
+        Date now = new Date();
+        worldData.setLastAccessed(now);
+        writeQueue.touch(worldData.getId(), now.getTime());
+    }
+
+    // Atualiza last_accessed de vários mundos com um UPDATE ... CASE por bloco de IDs
+    boolean touchWorldsBatch(Map<Integer, Long> touches) {
+        if (touches.isEmpty()) {
+            return true;
+        }
+
+        List<Map.Entry<Integer, Long>> entries = new ArrayList<>(touches.entrySet());
+
+        try (Connection conn = connector.getConnection()) {
+            for (int start = 0; start < entries.size(); start += TOUCH_BATCH_SIZE) {
+                List<Map.Entry<Integer, Long>> chunk = entries.subList(start, Math.min(start + TOUCH_BATCH_SIZE, entries.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(buildTouchQuery(chunk.size()))) {
+                    int index = 1;
+                    for (Map.Entry<Integer, Long> entry : chunk) {
+                        stmt.setInt(index++, entry.getKey());
+                        stmt.setTimestamp(index++, new Timestamp(entry.getValue()));
+                    }
+                    for (Map.Entry<Integer, Long> entry : chunk) {
+                        stmt.setInt(index++, entry.getKey());
+                    }
+
+                    stmt.executeUpdate();
+                }
+            }
+
+            return true;
+
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Erro ao atualizar último acesso de " + touches.size() + " mundos: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private String buildTouchQuery(int size) {
+        StringBuilder sql = new StringBuilder("UPDATE minevoxel_worlds SET last_accessed = GREATEST(last_accessed, CASE id");
+        for (int i = 0; i < size; i++) {
+            sql.append(" WHEN ? THEN ?");
+        }
+        sql.append(" END) WHERE id IN (");
+        for (int i = 0; i < size; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
+        return sql.toString();
+    }
+
+    // Grava vários mundos em uma única transação (executado pela fila de write-behind)
+    boolean updateWorldsBatch(Collection<WorldData> worlds) {
+        if (worlds.isEmpty()) {
+            return true;
+        }
+
+        Map<WorldData, WorldData.PermissionChanges> drained = new HashMap<>();
+        Map<Integer, WorldData.PermissionChanges> changesByWorld = new HashMap<>();
+        for (WorldData worldData : worlds) {
+            WorldData.PermissionChanges changes = worldData.drainPermissionChanges();
+            drained.put(worldData, changes);
+            changesByWorld.put(worldData.getId(), changes);
+        }
+
+        try (Connection conn = connector.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(UPDATE_WORLD)) {
+                for (WorldData worldData : worlds) {
+                    bindWorldUpdate(stmt, worldData, new Timestamp(worldData.getLastAccessed().getTime()));
+                    stmt.addBatch();
+                }
+
+                stmt.executeBatch();
+
+                applyPermissionChanges(conn, changesByWorld);
+
+                conn.commit();
+
+                List<Integer> worldIds = new ArrayList<>();
+                for (WorldData worldData : worlds) {
+                    cache.update(worldData);
+                    worldIds.add(worldData.getId());
+                }
+                notifyWorldsUpdated(worldIds);
+                return true;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+
+        } catch (SQLException e) {
+            for (Map.Entry<WorldData, WorldData.PermissionChanges> entry : drained.entrySet()) {
+                entry.getKey().restorePermissionChanges(entry.getValue());
+            }
+
+            plugin.getLogger().severe("Erro ao gravar lote de " + worlds.size() + " mundos no banco de dados: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private void bindWorldUpdate(PreparedStatement stmt, WorldData worldData, Timestamp lastAccessed) throws SQLException {
+        stmt.setString(1, worldData.getDisplayName());
+        stmt.setTimestamp(2, lastAccessed);
+        stmt.setInt(3, WorldRowCodec.worldTypeToCode(worldData.getWorldType()));
+        stmt.setInt(4, WorldRowCodec.environmentToCode(worldData.getEnvironment()));
+        stmt.setBoolean(5, worldData.isPvp());
+        stmt.setBoolean(6, worldData.isGenerateStructures());
+        stmt.setLong(7, worldData.getSeed());
+        stmt.setInt(8, WorldRowCodec.gameModeToCode(worldData.getGameMode()));
+        stmt.setInt(9, WorldRowCodec.packRules(worldData));
+        stmt.setBoolean(10, worldData.isPublic());
+        stmt.setInt(11, worldData.getId());
     }
 
     public CompletableFuture<Boolean> deleteWorld(int worldId) {
-        return CompletableFuture.supplyAsync(() -> {
+        // Alterações pendentes (inclusive permissões) gravariam linhas de um mundo que não existe mais
+        writeQueue.forget(worldId);
+
+        return executor.supplyWrite(() -> {
+            // Pode ter sido enfileirado de novo enquanto a exclusão aguardava na fila
+            writeQueue.forget(worldId);
+
             try (Connection conn = connector.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                          "DELETE FROM minevoxel_worlds WHERE id = ?")) {
@@ -220,6 +381,8 @@ public class DatabaseManager {
                 stmt.setInt(1, worldId);
 
                 int affectedRows = stmt.executeUpdate();
+                cache.invalidate(worldId);
+                notifyWorldsUpdated(Collections.singletonList(worldId));
                 return affectedRows > 0;
 
             } catch (SQLException e) {
@@ -227,11 +390,25 @@ public class DatabaseManager {
                 e.printStackTrace();
                 return false;
             }
-        }, executorService);
+        });
     }
 
     public CompletableFuture<WorldData> getWorld(int worldId) {
-        return CompletableFuture.supplyAsync(() -> {
+        WorldData pending = writeQueue.getPending(worldId);
+        if (pending != null) {
+            return CompletableFuture.completedFuture(pending.copy());
+        }
+
+        WorldData cached = cache.get(worldId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return fetchWorld(worldId, cache.getGeneration());
+    }
+
+    private CompletableFuture<WorldData> fetchWorld(int worldId, long generation) {
+        return executor.supplyRead(() -> {
             try (Connection conn = connector.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                          "SELECT * FROM minevoxel_worlds WHERE id = ?")) {
@@ -242,6 +419,7 @@ public class DatabaseManager {
                     if (rs.next()) {
                         WorldData worldData = extractWorldDataFromResultSet(rs);
                         loadWorldPermissions(conn, worldData);
+                        cache.putIfCurrent(worldData, generation);
                         return worldData;
                     }
                 }
@@ -253,11 +431,23 @@ public class DatabaseManager {
                 e.printStackTrace();
                 return null;
             }
-        }, executorService);
+        });
     }
 
     public CompletableFuture<WorldData> getWorldByName(String worldName) {
-        return CompletableFuture.supplyAsync(() -> {
+        WorldData pending = writeQueue.getPendingByName(worldName);
+        if (pending != null) {
+            return CompletableFuture.completedFuture(pending.copy());
+        }
+
+        WorldData cached = cache.getByName(worldName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long generation = cache.getGeneration();
+
+        return executor.supplyRead(() -> {
             try (Connection conn = connector.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                          "SELECT * FROM minevoxel_worlds WHERE world_name = ?")) {
@@ -268,6 +458,7 @@ public class DatabaseManager {
                     if (rs.next()) {
                         WorldData worldData = extractWorldDataFromResultSet(rs);
                         loadWorldPermissions(conn, worldData);
+                        cache.putIfCurrent(worldData, generation);
                         return worldData;
                     }
                 }
@@ -279,27 +470,28 @@ public class DatabaseManager {
                 e.printStackTrace();
                 return null;
             }
-        }, executorService);
+        });
     }
 
     public CompletableFuture<List<WorldData>> getWorldsByOwner(UUID ownerUUID) {
-        return CompletableFuture.supplyAsync(() -> {
+        return executor.supplyRead(() -> {
             List<WorldData> worlds = new ArrayList<>();
 
             try (Connection conn = connector.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(
                          "SELECT * FROM minevoxel_worlds WHERE owner_uuid = ?")) {
 
-                stmt.setString(1, ownerUUID.toString());
+                stmt.setBytes(1, WorldRowCodec.uuidToBytes(ownerUUID));
 
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
-                        WorldData worldData = extractWorldDataFromResultSet(rs);
-                        loadWorldPermissions(conn, worldData);
-                        worlds.add(worldData);
+                        worlds.add(extractWorldDataFromResultSet(rs));
                     }
                 }
 
+                // Carregar permissões de todos os mundos de uma vez
+                loadWorldPermissions(conn, worlds);
+
                 return worlds;
 
             } catch (SQLException e) {
@@ -307,44 +499,194 @@ public class DatabaseManager {
                 e.printStackTrace();
                 return worlds;
             }
-        }, executorService);
+        });
     }
 
     public CompletableFuture<List<WorldData>> getAccessibleWorlds(UUID playerUUID) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<WorldData> worlds = new ArrayList<>();
+        return queryAccessibleWorlds(playerUUID, null, 0).thenApply(WorldPage::getWorlds);
+    }
+
+    // Listagens paginadas (keyset), ordenadas por último acesso
+
+    public CompletableFuture<WorldPage> getWorldsByOwnerPage(UUID ownerUUID, WorldPage.Cursor after, int limit) {
+        return fetchWorldPage("SELECT w.* FROM minevoxel_worlds w",
+                "w.owner_uuid = ?", Collections.singletonList(WorldRowCodec.uuidToBytes(ownerUUID)),
+                after, limit, "mundos por dono");
+    }
+
+    public CompletableFuture<WorldPage> getPublicWorldsPage(WorldPage.Cursor after, int limit) {
+        return fetchWorldPage("SELECT w.* FROM minevoxel_worlds w",
+                "w.is_public = TRUE", Collections.emptyList(),
+                after, limit, "mundos públicos");
+    }
+
+    public CompletableFuture<WorldPage> getSharedWorldsPage(UUID playerUUID, WorldPage.Cursor after, int limit) {
+        return fetchWorldPage("SELECT w.* FROM minevoxel_worlds w " +
+                        "JOIN minevoxel_world_permissions p ON p.world_id = w.id AND p.player_uuid = ?",
+                "w.owner_uuid <> ?", Arrays.asList(WorldRowCodec.uuidToBytes(playerUUID), WorldRowCodec.uuidToBytes(playerUUID)),
+                after, limit, "mundos compartilhados");
+    }
+
+    public CompletableFuture<WorldPage> getAccessibleWorldsPage(UUID playerUUID, WorldPage.Cursor after, int limit) {
+        return queryAccessibleWorlds(playerUUID, after, Math.max(1, limit));
+    }
+
+    public CompletableFuture<WorldPage> getAllWorldsPage(WorldPage.Cursor after, int limit) {
+        return fetchWorldPage("SELECT w.* FROM minevoxel_worlds w",
+                null, Collections.emptyList(),
+                after, limit, "todos os mundos");
+    }
+
+    private CompletableFuture<WorldPage> fetchWorldPage(String select, String filter, List<Object> params,
+                                                       WorldPage.Cursor after, int limit, String description) {
+        return executor.supplyRead(() -> {
+            List<String> conditions = new ArrayList<>();
+            List<Object> values = new ArrayList<>(params);
+
+            if (filter != null) {
+                conditions.add(filter);
+            }
+
+            if (after != null) {
+                Timestamp lastAccessed = new Timestamp(after.getLastAccessed());
+                conditions.add("(w.last_accessed < ? OR (w.last_accessed = ? AND w.id < ?))");
+                values.add(lastAccessed);
+                values.add(lastAccessed);
+                values.add(after.getWorldId());
+            }
+
+            StringBuilder sql = new StringBuilder(select);
+            if (!conditions.isEmpty()) {
+                sql.append(" WHERE ").append(String.join(" AND ", conditions));
+            }
+            sql.append(" ORDER BY w.last_accessed DESC, w.id DESC LIMIT ?");
+
+            // Buscar um mundo a mais para saber se existe próxima página
+            values.add(limit + 1);
 
             try (Connection conn = connector.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(
-                         "SELECT w.* FROM minevoxel_worlds w " +
-                                 "LEFT JOIN minevoxel_world_permissions p ON w.id = p.world_id " +
-                                 "WHERE w.is_public = TRUE OR w.owner_uuid = ? OR p.player_uuid = ?")) {
+                 PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
 
-                stmt.setString(1, playerUUID.toString());
-                stmt.setString(2, playerUUID.toString());
+                for (int i = 0; i < values.size(); i++) {
+                    stmt.setObject(i + 1, values.get(i));
+                }
 
+                List<WorldData> worlds = new ArrayList<>();
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
-                        WorldData worldData = extractWorldDataFromResultSet(rs);
-                        loadWorldPermissions(conn, worldData);
-                        worlds.add(worldData);
+                        worlds.add(extractWorldDataFromResultSet(rs));
                     }
                 }
 
-                return worlds;
+                boolean hasMore = worlds.size() > limit;
+                if (hasMore) {
+                    worlds = new ArrayList<>(worlds.subList(0, limit));
+                }
+
+                loadWorldPermissions(conn, worlds);
+
+                return new WorldPage(worlds, hasMore);
+
+            } catch (SQLException e) {
+                plugin.getLogger().severe("Erro ao buscar página de " + description + " no banco de dados: " + e.getMessage());
+                e.printStackTrace();
+                return WorldPage.empty();
+            }
+        });
+    }
+
+    // Mundos acessíveis = próprios + compartilhados + públicos. Cada ramo do UNION usa o seu índice
+    // (idx_worlds_owner_accessed, idx_permissions_player_world, idx_worlds_public_accessed) em vez de
+    // um OR que obriga a varrer a tabela; o UNION remove os IDs repetidos entre os ramos.
+    // Com limit <= 0 retorna todos os mundos, sem paginação.
+    private CompletableFuture<WorldPage> queryAccessibleWorlds(UUID playerUUID, WorldPage.Cursor after, int limit) {
+        return executor.supplyRead(() -> {
+            boolean paged = limit > 0;
+            String sql = buildAccessibleWorldsSql(after != null, paged);
+            List<Object> values = accessibleWorldsParams(playerUUID, after, limit);
+
+            try (Connection conn = connector.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+                for (int i = 0; i < values.size(); i++) {
+                    stmt.setObject(i + 1, values.get(i));
+                }
+
+                List<WorldData> worlds = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        worlds.add(extractWorldDataFromResultSet(rs));
+                    }
+                }
+
+                boolean hasMore = paged && worlds.size() > limit;
+                if (hasMore) {
+                    worlds = new ArrayList<>(worlds.subList(0, limit));
+                }
+
+                loadWorldPermissions(conn, worlds);
+
+                return new WorldPage(worlds, hasMore);
 
             } catch (SQLException e) {
                 plugin.getLogger().severe("Erro ao buscar mundos acessíveis no banco de dados: " + e.getMessage());
                 e.printStackTrace();
-                return worlds;
+                return WorldPage.empty();
             }
-        }, executorService);
+        });
+    }
+
+    // SQL do UNION de mundos acessíveis (também usado por AccessibleWorldsBenchmark)
+    static String buildAccessibleWorldsSql(boolean hasCursor, boolean paged) {
+        String keyset = hasCursor ? " AND (w.last_accessed < ? OR (w.last_accessed = ? AND w.id < ?))" : "";
+        // Cada ramo só precisa entregar os primeiros limit + 1 mundos da ordenação final
+        String branchLimit = paged ? " ORDER BY w.last_accessed DESC, w.id DESC LIMIT ?" : "";
+
+        return "SELECT w.* FROM (" +
+                "(SELECT w.id FROM minevoxel_worlds w WHERE w.owner_uuid = ?" + keyset + branchLimit + ") " +
+                "UNION " +
+                "(SELECT w.id FROM minevoxel_world_permissions p JOIN minevoxel_worlds w ON w.id = p.world_id " +
+                "WHERE p.player_uuid = ?" + keyset + branchLimit + ") " +
+                "UNION " +
+                "(SELECT w.id FROM minevoxel_worlds w WHERE w.is_public = TRUE" + keyset + branchLimit + ")" +
+                ") accessible " +
+                "JOIN minevoxel_worlds w ON w.id = accessible.id " +
+                "ORDER BY w.last_accessed DESC, w.id DESC" + (paged ? " LIMIT ?" : "");
+    }
+
+    static List<Object> accessibleWorldsParams(UUID playerUUID, WorldPage.Cursor after, int limit) {
+        boolean paged = limit > 0;
+
+        List<Object> branchParams = new ArrayList<>();
+        if (after != null) {
+            Timestamp lastAccessed = new Timestamp(after.getLastAccessed());
+            branchParams.add(lastAccessed);
+            branchParams.add(lastAccessed);
+            branchParams.add(after.getWorldId());
+        }
+        if (paged) {
+            // Buscar um mundo a mais para saber se existe próxima página
+            branchParams.add(limit + 1);
+        }
+
+        byte[] playerBytes = WorldRowCodec.uuidToBytes(playerUUID);
+
+        List<Object> values = new ArrayList<>();
+        values.add(playerBytes);
+        values.addAll(branchParams);
+        values.add(playerBytes);
+        values.addAll(branchParams);
+        values.addAll(branchParams);
+        if (paged) {
+            values.add(limit + 1);
+        }
+        return values;
     }
 
     private WorldData extractWorldDataFromResultSet(ResultSet rs) throws SQLException {
         int id = rs.getInt("id");
         String worldName = rs.getString("world_name");
-        UUID ownerUUID = UUID.fromString(rs.getString("owner_uuid"));
+        UUID ownerUUID = WorldRowCodec.bytesToUuid(rs.getBytes("owner_uuid"));
         String ownerName = rs.getString("owner_name");
 
         WorldData worldData = new WorldData(id, worldName, ownerUUID, ownerName);
@@ -352,20 +694,13 @@ public class DatabaseManager {
         worldData.setDisplayName(rs.getString("display_name"));
         worldData.setCreationDate(rs.getTimestamp("creation_date"));
         worldData.setLastAccessed(rs.getTimestamp("last_accessed"));
-        worldData.setWorldType(rs.getString("world_type"));
-        worldData.setEnvironment(rs.getString("environment"));
-        worldData.setPvp(rs.getBoolean("pvp"));
-        worldData.setGenerateStructures(rs.getBoolean("generate_structures"));
+        worldData.setWorldType(WorldRowCodec.codeToWorldType(rs.getInt("world_type")));
+        worldData.setEnvironment(WorldRowCodec.codeToEnvironment(rs.getInt("environment")));
+
         worldData.setSeed(rs.getLong("seed"));
-        worldData.setGameMode(GameMode.valueOf(rs.getString("game_mode")));
-        worldData.setPhysics(rs.getBoolean("physics"));
-        worldData.setWaterFlow(rs.getBoolean("water_flow"));
-        worldData.setLavaFlow(rs.getBoolean("lava_flow"));
-        worldData.setFireSpread(rs.getBoolean("fire_spread"));
-        worldData.setLeafDecay(rs.getBoolean("leaf_decay"));
-        worldData.setRedstone(rs.getBoolean("redstone"));
-        worldData.setMobSpawning(rs.getBoolean("mob_spawning"));
-        worldData.setAnimalSpawning(rs.getBoolean("animal_spawning"));
+        worldData.setGameMode(WorldRowCodec.codeToGameMode(rs.getInt("game_mode")));
+        worldData.setRules(WorldRowCodec.decodeRules(
+                rs.getInt("rule_flags"), rs.getBoolean("pvp"), rs.getBoolean("generate_structures")));
         worldData.setPublic(rs.getBoolean("is_public"));
 
         return worldData;
@@ -379,7 +714,7 @@ public class DatabaseManager {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    UUID playerUUID = UUID.fromString(rs.getString("player_uuid"));
+                    UUID playerUUID = WorldRowCodec.bytesToUuid(rs.getBytes("player_uuid"));
                     String permission = rs.getString("permission");
 
                     worldData.getPlayerPermissions().put(playerUUID, permission);
@@ -389,12 +724,95 @@ public class DatabaseManager {
         }
     }
 
-    private void clearWorldPermissions(Connection conn, int worldId) throws SQLException {
-        try (PreparedStatement stmt = conn.prepareStatement(
-                "DELETE FROM minevoxel_world_permissions WHERE world_id = ?")) {
+    // Carrega as permissões de vários mundos com uma consulta por bloco de IDs
+    private void loadWorldPermissions(Connection conn, List<WorldData> worlds) throws SQLException {
+        if (worlds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, WorldData> worldsById = new HashMap<>();
+        for (WorldData worldData : worlds) {
+            worldsById.put(worldData.getId(), worldData);
+        }
+
+        List<Integer> worldIds = new ArrayList<>(worldsById.keySet());
+
+        for (int start = 0; start < worldIds.size(); start += PERMISSION_LOAD_BATCH_SIZE) {
+            List<Integer> chunk = worldIds.subList(start, Math.min(start + PERMISSION_LOAD_BATCH_SIZE, worldIds.size()));
+
+            StringBuilder sql = new StringBuilder(
+                    "SELECT world_id, player_uuid, permission FROM minevoxel_world_permissions WHERE world_id IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(")");
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setInt(i + 1, chunk.get(i));
+                }
 
-            stmt.setInt(1, worldId);
-            stmt.executeUpdate();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        WorldData worldData = worldsById.get(rs.getInt("world_id"));
+                        if (worldData == null) {
+                            continue;
+                        }
+
+                        UUID playerUUID = WorldRowCodec.bytesToUuid(rs.getBytes("player_uuid"));
+                        String permission = rs.getString("permission");
+
+                        worldData.getPlayerPermissions().put(playerUUID, permission);
+                        worldData.getAllowedPlayers().add(playerUUID);
+                    }
+                }
+            }
+        }
+    }
+
+    private void applyPermissionChanges(Connection conn, Map<Integer, WorldData.PermissionChanges> changesByWorld) throws SQLException {
+        boolean hasRemovals = false;
+        boolean hasUpserts = false;
+        for (WorldData.PermissionChanges changes : changesByWorld.values()) {
+            hasRemovals |= !changes.getRemovals().isEmpty();
+            hasUpserts |= !changes.getUpserts().isEmpty();
+        }
+
+        // Remover jogadores que perderam acesso
+        if (hasRemovals) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "DELETE FROM minevoxel_world_permissions WHERE world_id = ? AND player_uuid = ?")) {
+
+                for (Map.Entry<Integer, WorldData.PermissionChanges> entry : changesByWorld.entrySet()) {
+                    for (UUID playerUUID : entry.getValue().getRemovals()) {
+                        stmt.setInt(1, entry.getKey());
+                        stmt.setBytes(2, WorldRowCodec.uuidToBytes(playerUUID));
+                        stmt.addBatch();
+                    }
+                }
+
+                stmt.executeBatch();
+            }
+        }
+
+        // Inserir jogadores novos e atualizar permissões alteradas
+        if (hasUpserts) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO minevoxel_world_permissions (world_id, player_uuid, permission) " +
+                            "VALUES (?, ?, ?) " +
+                            "ON DUPLICATE KEY UPDATE permission = VALUES(permission)")) {
+
+                for (Map.Entry<Integer, WorldData.PermissionChanges> entry : changesByWorld.entrySet()) {
+                    for (Map.Entry<UUID, String> upsert : entry.getValue().getUpserts().entrySet()) {
+                        stmt.setInt(1, entry.getKey());
+                        stmt.setBytes(2, WorldRowCodec.uuidToBytes(upsert.getKey()));
+                        stmt.setString(3, upsert.getValue());
+                        stmt.addBatch();
+                    }
+                }
+
+                stmt.executeBatch();
+            }
         }
     }
 
@@ -406,7 +824,7 @@ public class DatabaseManager {
 
             for (Map.Entry<UUID, String> entry : worldData.getPlayerPermissions().entrySet()) {
                 stmt.setInt(1, worldData.getId());
-                stmt.setString(2, entry.getKey().toString());
+                stmt.setBytes(2, WorldRowCodec.uuidToBytes(entry.getKey()));
                 stmt.setString(3, entry.getValue());
                 stmt.addBatch();
             }
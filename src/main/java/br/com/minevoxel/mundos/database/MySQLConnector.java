@@ -1,25 +1,19 @@
 package br.com.minevoxel.mundos.database;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.Properties;
 
 public class MySQLConnector {
 
     private final MinevoxelMundos plugin;
 
-    // Credenciais de conexão
-    private static final String DB_HOST = "glacier.lowping.host";
-    private static final int DB_PORT = 3306;
-    private static final String DB_NAME = "s39_MinevoxelMundos";
-    private static final String DB_USER = "u39_5gSLkk4k41";
-    private static final String DB_PASSWORD = "whgx+v2PEkk=Put^2^muN+zF";
-
-    private String jdbcUrl;
-    private Properties connectionProperties;
+    private HikariDataSource dataSource;
 
     public MySQLConnector(MinevoxelMundos plugin) {
         this.plugin = plugin;
@@ -27,50 +21,87 @@ public class MySQLConnector {
     }
 
     private void setupConnection() {
+        Config config = plugin.getConfigManager();
+
+        // Configurar URL JDBC
+        String jdbcUrl = "jdbc:mysql://" + config.getDatabaseHost() + ":" + config.getDatabasePort() + "/" + config.getDatabaseName();
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("MinevoxelMundos-Pool");
+        hikariConfig.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        hikariConfig.setJdbcUrl(jdbcUrl);
+        hikariConfig.setUsername(config.getDatabaseUser());
+        hikariConfig.setPassword(config.getDatabasePassword());
+
+        // Configurar tamanho e tempos do pool
+        int maximumSize = Math.max(1, config.getDatabasePoolMaximumSize());
+        hikariConfig.setMaximumPoolSize(maximumSize);
+        hikariConfig.setMinimumIdle(Math.min(Math.max(0, config.getDatabasePoolMinimumIdle()), maximumSize));
+        hikariConfig.setConnectionTimeout(config.getDatabasePoolConnectionTimeout());
+        hikariConfig.setIdleTimeout(config.getDatabasePoolIdleTimeout());
+        hikariConfig.setMaxLifetime(config.getDatabasePoolMaxLifetime());
+        hikariConfig.setLeakDetectionThreshold(config.getDatabasePoolLeakDetectionThreshold());
+
+        // Sem consulta configurada, o Hikari usa Connection.isValid (JDBC4), que é mais barato
+        String validationQuery = config.getDatabasePoolValidationQuery();
+        if (validationQuery != null && !validationQuery.trim().isEmpty()) {
+            hikariConfig.setConnectionTestQuery(validationQuery);
+        }
+
+        // Não falhar a inicialização do plugin se o banco estiver indisponível no momento
+        hikariConfig.setInitializationFailTimeout(-1);
+
+        // Configurar propriedades de conexão
+        hikariConfig.addDataSourceProperty("useSSL", String.valueOf(config.getDatabaseUseSSL()));
+        hikariConfig.addDataSourceProperty("useUnicode", "true");
+        hikariConfig.addDataSourceProperty("characterEncoding", "utf8");
+        hikariConfig.addDataSourceProperty("serverTimezone", "UTC");
+
+        // Cache de prepared statements no driver, reaproveitado entre chamadas na mesma conexão
+        hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+        hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
+        hikariConfig.addDataSourceProperty("rewriteBatchedStatements", "true");
+
         try {
-            // Carregar o driver JDBC
-            Class.forName("com.mysql.jdbc.Driver");
-
-            // Configurar URL JDBC
-            jdbcUrl = "jdbc:mysql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME;
-
-            // Configurar propriedades de conexão
-            connectionProperties = new Properties();
-            connectionProperties.setProperty("user", DB_USER);
-            connectionProperties.setProperty("password", DB_PASSWORD);
-            connectionProperties.setProperty("useSSL", "false");
-            connectionProperties.setProperty("autoReconnect", "true");
-            connectionProperties.setProperty("useUnicode", "true");
-            connectionProperties.setProperty("characterEncoding", "utf8");
-            connectionProperties.setProperty("serverTimezone", "UTC");
+            dataSource = new HikariDataSource(hikariConfig);
 
             // Testar conexão
             try (Connection conn = getConnection()) {
                 if (conn.isValid(5)) {
-                    plugin.getLogger().info("Conexão com o banco de dados estabelecida com sucesso!");
+                    plugin.getLogger().info("Conexão com o banco de dados estabelecida com sucesso! (pool: "
+                            + hikariConfig.getMinimumIdle() + "-" + maximumSize + " conexões)");
                 } else {
                     plugin.getLogger().warning("Teste de conexão com o banco de dados falhou!");
                 }
             }
 
-        } catch (ClassNotFoundException e) {
-            plugin.getLogger().severe("Driver JDBC MySQL não encontrado: " + e.getMessage());
-            e.printStackTrace();
         } catch (SQLException e) {
             plugin.getLogger().severe("Erro ao conectar ao banco de dados: " + e.getMessage());
             e.printStackTrace();
+        } catch (RuntimeException e) {
+            plugin.getLogger().severe("Erro ao inicializar o pool de conexões: " + e.getMessage());
+            e.printStackTrace();
         }
     }
 
     public Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(jdbcUrl, connectionProperties);
+        if (dataSource == null || dataSource.isClosed()) {
+            throw new SQLException("Pool de conexões não está disponível");
+        }
+
+        return dataSource.getConnection();
     }
 
     public void close() {
-        // Não é necessário fechar nada aqui, pois não mantemos um pool de conexões
+        if (dataSource != null && !dataSource.isClosed()) {
+            dataSource.close();
+        }
     }
 
     public boolean isConnected() {
+        // Usa uma conexão já aberta do pool em vez de abrir uma nova
         try (Connection conn = getConnection()) {
             return conn.isValid(1);
         } catch (SQLException e) {
@@ -79,6 +110,48 @@ public class MySQLConnector {
     }
 
     public void reconnect() {
+        close();
         setupConnection();
     }
-}
\ No newline at end of file
+
+    // Métricas do pool
+
+    public int getActiveConnections() {
+        HikariPoolMXBean pool = getPoolBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    public int getIdleConnections() {
+        HikariPoolMXBean pool = getPoolBean();
+        return pool != null ? pool.getIdleConnections() : 0;
+    }
+
+    public int getTotalConnections() {
+        HikariPoolMXBean pool = getPoolBean();
+        return pool != null ? pool.getTotalConnections() : 0;
+    }
+
+    public int getThreadsAwaitingConnection() {
+        HikariPoolMXBean pool = getPoolBean();
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+    }
+
+    public int getMaximumPoolSize() {
+        return dataSource != null ? dataSource.getMaximumPoolSize() : 0;
+    }
+
+    public String getPoolStatus() {
+        return "ativas=" + getActiveConnections() +
+                ", ociosas=" + getIdleConnections() +
+                ", total=" + getTotalConnections() + "/" + getMaximumPoolSize() +
+                ", aguardando=" + getThreadsAwaitingConnection();
+    }
+
+    private HikariPoolMXBean getPoolBean() {
+        if (dataSource == null || dataSource.isClosed()) {
+            return null;
+        }
+
+        return dataSource.getHikariPoolMXBean();
+    }
+}
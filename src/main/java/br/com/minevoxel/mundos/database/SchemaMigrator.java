@@ -0,0 +1,366 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SchemaMigrator {
+
+    @FunctionalInterface
+    public interface MigrationStep {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final MigrationStep step;
+
+        private Migration(int version, String description, MigrationStep step) {
+            this.version = version;
+            this.description = description;
+            this.step = step;
+        }
+    }
+
+    private static final String SCHEMA_VERSION_TABLE = "minevoxel_schema_version";
+
+    // Impede que dois servidores (lobby e mundos) migrem o mesmo banco ao mesmo tempo
+    private static final String MIGRATION_LOCK = "minevoxel_schema_migration";
+    private static final int MIGRATION_LOCK_TIMEOUT = 60;
+
+    // Linhas convertidas por UPDATE nas migrações de dados
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final MinevoxelMundos plugin;
+    private final List<Migration> migrations = new ArrayList<>();
+
+    public SchemaMigrator(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        registerMigrations();
+    }
+
+    private void registerMigrations() {
+        register(1, "Criar tabelas de mundos e permissões", conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS minevoxel_worlds (" +
+                        "id INT PRIMARY KEY AUTO_INCREMENT, " +
+                        "world_name VARCHAR(64) UNIQUE NOT NULL, " +
+                        "display_name VARCHAR(64) NOT NULL, " +
+                        "owner_uuid VARCHAR(36) NOT NULL, " +
+                        "owner_name VARCHAR(16) NOT NULL, " +
+                        "creation_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                        "last_accessed TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                        "world_type VARCHAR(32) DEFAULT 'NORMAL', " +
+                        "environment VARCHAR(32) DEFAULT 'NORMAL', " +
+                        "pvp BOOLEAN DEFAULT FALSE, " +
+                        "generate_structures BOOLEAN DEFAULT TRUE, " +
+                        "seed BIGINT DEFAULT 0, " +
+                        "game_mode VARCHAR(32) DEFAULT 'SURVIVAL', " +
+                        "physics BOOLEAN DEFAULT TRUE, " +
+                        "water_flow BOOLEAN DEFAULT TRUE, " +
+                        "lava_flow BOOLEAN DEFAULT TRUE, " +
+                        "fire_spread BOOLEAN DEFAULT TRUE, " +
+                        "leaf_decay BOOLEAN DEFAULT TRUE, " +
+                        "redstone BOOLEAN DEFAULT TRUE, " +
+                        "mob_spawning BOOLEAN DEFAULT TRUE, " +
+                        "animal_spawning BOOLEAN DEFAULT TRUE, " +
+                        "is_public BOOLEAN DEFAULT FALSE, " +
+                        "INDEX(owner_uuid), " +
+                        "INDEX(world_name))");
+
+                stmt.execute("CREATE TABLE IF NOT EXISTS minevoxel_world_permissions (" +
+                        "id INT PRIMARY KEY AUTO_INCREMENT, " +
+                        "world_id INT NOT NULL, " +
+                        "player_uuid VARCHAR(36) NOT NULL, " +
+                        "permission VARCHAR(32) NOT NULL, " +
+                        "FOREIGN KEY (world_id) REFERENCES minevoxel_worlds(id) ON DELETE CASCADE, " +
+                        "UNIQUE KEY unique_world_player (world_id, player_uuid))");
+            }
+        });
+
+        register(2, "Índices para consultas por dono, mundos públicos, último acesso e jogador", conn -> {
+            createIndexIfMissing(conn, "minevoxel_worlds", "idx_worlds_owner_accessed", "owner_uuid, last_accessed, id");
+            createIndexIfMissing(conn, "minevoxel_worlds", "idx_worlds_public_accessed", "is_public, last_accessed, id");
+            createIndexIfMissing(conn, "minevoxel_worlds", "idx_worlds_accessed", "last_accessed, id");
+            createIndexIfMissing(conn, "minevoxel_world_permissions", "idx_permissions_player_world", "player_uuid, world_id");
+        });
+
+        register(3, "Remover índices redundantes de minevoxel_worlds", conn -> {
+            // owner_uuid já é prefixo de idx_worlds_owner_accessed
+            dropIndexIfExists(conn, "minevoxel_worlds", "owner_uuid");
+            // world_name já tem o índice UNIQUE; INDEX(world_name) criou uma cópia
+            dropIndexIfExists(conn, "minevoxel_worlds", "world_name_2");
+        });
+
+        register(4, "Adicionar colunas compactas (UUID binário, códigos e flags) e copiar dados", conn -> {
+            addColumnIfMissing(conn, "minevoxel_worlds", "owner_uuid_bin", "BINARY(16) NULL");
+            addColumnIfMissing(conn, "minevoxel_worlds", "world_type_code", "TINYINT UNSIGNED NOT NULL DEFAULT 0");
+            addColumnIfMissing(conn, "minevoxel_worlds", "environment_code", "TINYINT UNSIGNED NOT NULL DEFAULT 0");
+            addColumnIfMissing(conn, "minevoxel_worlds", "game_mode_code", "TINYINT UNSIGNED NOT NULL DEFAULT 0");
+            addColumnIfMissing(conn, "minevoxel_worlds", "rule_flags",
+                    "SMALLINT UNSIGNED NOT NULL DEFAULT " + WorldRowCodec.ALL_RULES);
+            addColumnIfMissing(conn, "minevoxel_world_permissions", "player_uuid_bin", "BINARY(16) NULL");
+
+            // owner_uuid_bin nulo marca as linhas que ainda não foram convertidas.
+            // UUIDs malformados ficam de fora: UNHEX retornaria NULL e a mesma linha voltaria em toda passada
+            long worlds = backfillInBatches(conn,
+                    "UPDATE minevoxel_worlds SET " +
+                            "owner_uuid_bin = " + WorldRowCodec.uuidToBinarySql("owner_uuid") + ", " +
+                            "world_type_code = " + WorldRowCodec.worldTypeCodeSql("world_type") + ", " +
+                            "environment_code = " + WorldRowCodec.environmentCodeSql("environment") + ", " +
+                            "game_mode_code = " + WorldRowCodec.gameModeCodeSql("game_mode") + ", " +
+                            "rule_flags = " + WorldRowCodec.rulesSql() + " " +
+                            "WHERE owner_uuid_bin IS NULL AND " + WorldRowCodec.validUuidSql("owner_uuid") + " LIMIT ?",
+                    BACKFILL_BATCH_SIZE);
+
+            long permissions = backfillInBatches(conn,
+                    "UPDATE minevoxel_world_permissions SET " +
+                            "player_uuid_bin = " + WorldRowCodec.uuidToBinarySql("player_uuid") + " " +
+                            "WHERE player_uuid_bin IS NULL AND " + WorldRowCodec.validUuidSql("player_uuid") + " LIMIT ?",
+                    BACKFILL_BATCH_SIZE);
+
+            plugin.getLogger().info("Convertidos " + worlds + " mundos e " + permissions + " permissões para o formato compacto");
+
+            // Permissões de jogadores com UUID inválido não servem para ninguém
+            try (Statement stmt = conn.createStatement()) {
+                int removed = stmt.executeUpdate("DELETE FROM minevoxel_world_permissions WHERE player_uuid_bin IS NULL");
+                if (removed > 0) {
+                    plugin.getLogger().warning("Removidas " + removed + " permissões com UUID de jogador inválido");
+                }
+            }
+
+            // Mundos com dono inválido precisam ser corrigidos à mão antes da próxima migração
+            List<String> invalid = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT id, owner_uuid FROM minevoxel_worlds WHERE owner_uuid_bin IS NULL LIMIT 20")) {
+                while (rs.next()) {
+                    invalid.add(rs.getInt("id") + " (" + rs.getString("owner_uuid") + ")");
+                }
+            }
+
+            if (!invalid.isEmpty()) {
+                throw new SQLException("Mundos com UUID de dono inválido: " + String.join(", ", invalid));
+            }
+        });
+
+        register(5, "Substituir colunas antigas pelas colunas compactas", conn -> {
+            if (columnExists(conn, "minevoxel_worlds", "owner_uuid_bin")) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("ALTER TABLE minevoxel_worlds " +
+                            "DROP INDEX idx_worlds_owner_accessed, " +
+                            "DROP COLUMN owner_uuid, DROP COLUMN world_type, DROP COLUMN environment, DROP COLUMN game_mode, " +
+                            "DROP COLUMN physics, DROP COLUMN water_flow, DROP COLUMN lava_flow, DROP COLUMN fire_spread, " +
+                            "DROP COLUMN leaf_decay, DROP COLUMN redstone, DROP COLUMN mob_spawning, DROP COLUMN animal_spawning, " +
+                            "CHANGE COLUMN owner_uuid_bin owner_uuid BINARY(16) NOT NULL, " +
+                            "CHANGE COLUMN world_type_code world_type TINYINT UNSIGNED NOT NULL DEFAULT 0, " +
+                            "CHANGE COLUMN environment_code environment TINYINT UNSIGNED NOT NULL DEFAULT 0, " +
+                            "CHANGE COLUMN game_mode_code game_mode TINYINT UNSIGNED NOT NULL DEFAULT 0, " +
+                            "ADD INDEX idx_worlds_owner_accessed (owner_uuid, last_accessed, id)");
+                }
+            }
+
+            if (columnExists(conn, "minevoxel_world_permissions", "player_uuid_bin")) {
+                // A chave única é recriada na mesma instrução para manter o índice exigido pela FOREIGN KEY
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("ALTER TABLE minevoxel_world_permissions " +
+                            "DROP INDEX unique_world_player, " +
+                            "DROP INDEX idx_permissions_player_world, " +
+                            "DROP COLUMN player_uuid, " +
+                            "CHANGE COLUMN player_uuid_bin player_uuid BINARY(16) NOT NULL, " +
+                            "ADD UNIQUE KEY unique_world_player (world_id, player_uuid), " +
+                            "ADD INDEX idx_permissions_player_world (player_uuid, world_id)");
+                }
+            }
+        });
+    }
+
+    private void register(int version, String description, MigrationStep step) {
+        if (!migrations.isEmpty() && migrations.get(migrations.size() - 1).version >= version) {
+            throw new IllegalStateException("Migrações devem ser registradas em ordem crescente de versão: " + version);
+        }
+
+        migrations.add(new Migration(version, description, step));
+    }
+
+    // Executa as migrações pendentes; retorna false se alguma falhar
+    public boolean migrate(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA_VERSION_TABLE + " (" +
+                    "version INT PRIMARY KEY, " +
+                    "description VARCHAR(255) NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "execution_ms BIGINT NOT NULL DEFAULT 0)");
+        }
+
+        if (!acquireLock(conn)) {
+            plugin.getLogger().severe("Não foi possível obter o lock de migração do banco de dados.");
+            return false;
+        }
+
+        try {
+            int currentVersion = getCurrentVersion(conn);
+
+            for (Migration migration : migrations) {
+                if (migration.version <= currentVersion) {
+                    continue;
+                }
+
+                plugin.getLogger().info("Aplicando migração V" + migration.version + ": " + migration.description);
+                long start = System.currentTimeMillis();
+
+                try {
+                    migration.step.apply(conn);
+                } catch (SQLException e) {
+                    plugin.getLogger().severe("Falha na migração V" + migration.version + ": " + e.getMessage());
+                    e.printStackTrace();
+                    return false;
+                }
+
+                recordVersion(conn, migration, System.currentTimeMillis() - start);
+                currentVersion = migration.version;
+            }
+
+            plugin.getLogger().info("Esquema do banco de dados na versão " + currentVersion);
+            return true;
+
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version;
+    }
+
+    private int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM " + SCHEMA_VERSION_TABLE)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void recordVersion(Connection conn, Migration migration, long executionMs) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO " + SCHEMA_VERSION_TABLE + " (version, description, execution_ms) VALUES (?, ?, ?)")) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.setLong(3, executionMs);
+            stmt.executeUpdate();
+        }
+    }
+
+    private boolean acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, MIGRATION_LOCK);
+            stmt.setInt(2, MIGRATION_LOCK_TIMEOUT);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, MIGRATION_LOCK);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            plugin.getLogger().warning("Erro ao liberar lock de migração: " + e.getMessage());
+        }
+    }
+
+    // Utilitários para as migrações (todas devem poder ser reexecutadas com segurança)
+
+    public static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ? LIMIT 1")) {
+            stmt.setString(1, table);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    public static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? LIMIT 1")) {
+            stmt.setString(1, table);
+            stmt.setString(2, column);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    public static boolean indexExists(Connection conn, String table, String indexName) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT 1 FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? LIMIT 1")) {
+            stmt.setString(1, table);
+            stmt.setString(2, indexName);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    public static void createIndexIfMissing(Connection conn, String table, String indexName, String columns) throws SQLException {
+        if (indexExists(conn, table, indexName)) {
+            return;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX " + indexName + " ON " + table + " (" + columns + ")");
+        }
+    }
+
+    public static void dropIndexIfExists(Connection conn, String table, String indexName) throws SQLException {
+        if (!indexExists(conn, table, indexName)) {
+            return;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP INDEX " + indexName + " ON " + table);
+        }
+    }
+
+    public static void addColumnIfMissing(Connection conn, String table, String column, String definition) throws SQLException {
+        if (columnExists(conn, table, column)) {
+            return;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+
+    // Executa um UPDATE com LIMIT repetidamente até não restarem linhas, evitando travar a tabela inteira.
+    // O WHERE precisa excluir as linhas já convertidas. Uma passada com menos linhas que o limite é a
+    // última: o Connector/J conta as linhas encontradas, não as alteradas, então esperar por 0 poderia
+    // repetir para sempre as linhas que o UPDATE não consegue converter
+    public static long backfillInBatches(Connection conn, String limitedUpdateSql, int batchSize) throws SQLException {
+        long total = 0;
+
+        try (PreparedStatement stmt = conn.prepareStatement(limitedUpdateSql)) {
+            int affected;
+            do {
+                stmt.setInt(1, batchSize);
+                affected = stmt.executeUpdate();
+                total += affected;
+
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            } while (affected >= batchSize);
+        }
+
+        return total;
+    }
+}
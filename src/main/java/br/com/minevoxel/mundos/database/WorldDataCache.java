@@ -0,0 +1,186 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.models.WorldData;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Guarda cópias: quem lê recebe a sua própria cópia, e alterações feitas nela (ex.: nos menus)
+// só chegam ao cache depois de gravadas com sucesso
+public class WorldDataCache {
+
+    private static class Entry {
+        private final WorldData worldData;
+        private final long expiresAt;
+
+        private Entry(WorldData worldData, long expiresAt) {
+            this.worldData = worldData;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Ordem de acesso: o primeiro elemento é o menos usado recentemente
+    private final LinkedHashMap<Integer, Entry> byId;
+    private final Map<String, Integer> idsByName = new HashMap<>();
+
+    // Incrementado a cada invalidação; leituras iniciadas antes dela não podem repovoar o cache
+    private long generation;
+
+    // Métricas
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public WorldDataCache(int maxSize, long ttlSeconds) {
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+
+        this.byId = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() <= WorldDataCache.this.maxSize) {
+                    return false;
+                }
+
+                idsByName.remove(eldest.getValue().worldData.getWorldName());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0 && ttlNanos > 0;
+    }
+
+    public synchronized WorldData get(int worldId) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Entry entry = byId.get(worldId);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAt > 0) {
+            remove(worldId);
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.worldData.copy();
+    }
+
+    public synchronized WorldData getByName(String worldName) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Integer worldId = idsByName.get(worldName);
+        if (worldId == null) {
+            misses.increment();
+            return null;
+        }
+
+        return get(worldId);
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    // Armazena o resultado de uma leitura, desde que nenhuma invalidação tenha ocorrido desde o seu início
+    public synchronized void putIfCurrent(WorldData worldData, long readGeneration) {
+        if (readGeneration == generation) {
+            put(worldData);
+        }
+    }
+
+    public synchronized void put(WorldData worldData) {
+        if (!isEnabled() || worldData == null || worldData.getId() <= 0) {
+            return;
+        }
+
+        // Um mundo renomeado não pode deixar o nome antigo apontando para ele
+        Entry previous = byId.get(worldData.getId());
+        if (previous != null && !previous.worldData.getWorldName().equals(worldData.getWorldName())) {
+            idsByName.remove(previous.worldData.getWorldName());
+        }
+
+        byId.put(worldData.getId(), new Entry(worldData.copy(), System.nanoTime() + ttlNanos));
+        idsByName.put(worldData.getWorldName(), worldData.getId());
+    }
+
+    // Versão recém-gravada no banco: leituras iniciadas antes da gravação não podem sobrescrevê-la
+    public synchronized void update(WorldData worldData) {
+        generation++;
+        put(worldData);
+    }
+
+    public synchronized void invalidate(int worldId) {
+        generation++;
+        invalidations.increment();
+        remove(worldId);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.increment();
+        byId.clear();
+        idsByName.clear();
+    }
+
+    private void remove(int worldId) {
+        Entry entry = byId.remove(worldId);
+        if (entry != null) {
+            idsByName.remove(entry.worldData.getWorldName(), worldId);
+        }
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    public double getHitRate() {
+        long total = getHitCount() + getMissCount();
+        return total == 0 ? 0 : getHitCount() / (double) total;
+    }
+
+    public String getStatus() {
+        return String.format("mundos=%d/%d, acertos=%d, falhas=%d (%.1f%%), removidos por tamanho=%d, expirados=%d, invalidações=%d",
+                size(), maxSize, getHitCount(), getMissCount(), getHitRate() * 100,
+                getEvictionCount(), getExpirationCount(), getInvalidationCount());
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.models.WorldRules;
+import org.bukkit.GameMode;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// Conversão entre WorldData e o formato compacto das colunas (UUID em BINARY(16), códigos numéricos e flags)
+public final class WorldRowCodec {
+
+    // Os códigos são gravados no banco: nunca reordenar, apenas adicionar no final
+    private static final String[] WORLD_TYPES = {"NORMAL", "FLAT", "AMPLIFIED", "VOID"};
+    private static final String[] ENVIRONMENTS = {"NORMAL", "NETHER", "THE_END"};
+    private static final GameMode[] GAME_MODES = {GameMode.SURVIVAL, GameMode.CREATIVE, GameMode.ADVENTURE, GameMode.SPECTATOR};
+
+    // Bits da coluna rule_flags (pvp e estruturas têm colunas próprias)
+    public static final int ALL_RULES = WorldRules.ENVIRONMENT_RULES;
+
+    private WorldRowCodec() {
+    }
+
+    public static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID bytesToUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    public static int worldTypeToCode(String worldType) {
+        return indexOf(WORLD_TYPES, worldType);
+    }
+
+    public static String codeToWorldType(int code) {
+        return code >= 0 && code < WORLD_TYPES.length ? WORLD_TYPES[code] : WORLD_TYPES[0];
+    }
+
+    public static int environmentToCode(String environment) {
+        return indexOf(ENVIRONMENTS, environment);
+    }
+
+    public static String codeToEnvironment(int code) {
+        return code >= 0 && code < ENVIRONMENTS.length ? ENVIRONMENTS[code] : ENVIRONMENTS[0];
+    }
+
+    public static int gameModeToCode(GameMode gameMode) {
+        for (int i = 0; i < GAME_MODES.length; i++) {
+            if (GAME_MODES[i] == gameMode) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    public static GameMode codeToGameMode(int code) {
+        return code >= 0 && code < GAME_MODES.length ? GAME_MODES[code] : GAME_MODES[0];
+    }
+
+    public static int packRules(WorldData worldData) {
+        return worldData.getRules().getFlags() & ALL_RULES;
+    }
+
+    // Monta todas as regras de uma linha em um único objeto, publicado de uma só vez no WorldData
+    public static WorldRules decodeRules(int ruleFlags, boolean pvp, boolean generateStructures) {
+        int flags = ruleFlags & ALL_RULES;
+        if (pvp) flags |= WorldRules.PVP;
+        if (generateStructures) flags |= WorldRules.GENERATE_STRUCTURES;
+        return WorldRules.of(flags);
+    }
+
+    // Expressões SQL usadas na migração das colunas antigas (texto e booleanos) para o formato compacto
+
+    static String worldTypeCodeSql(String column) {
+        return codeCaseSql(column, WORLD_TYPES);
+    }
+
+    static String environmentCodeSql(String column) {
+        return codeCaseSql(column, ENVIRONMENTS);
+    }
+
+    static String gameModeCodeSql(String column) {
+        String[] names = new String[GAME_MODES.length];
+        for (int i = 0; i < GAME_MODES.length; i++) {
+            names[i] = GAME_MODES[i].name();
+        }
+        return codeCaseSql(column, names);
+    }
+
+    static String rulesSql() {
+        return "((physics <> 0) * " + WorldRules.PHYSICS +
+                " + (water_flow <> 0) * " + WorldRules.WATER_FLOW +
+                " + (lava_flow <> 0) * " + WorldRules.LAVA_FLOW +
+                " + (fire_spread <> 0) * " + WorldRules.FIRE_SPREAD +
+                " + (leaf_decay <> 0) * " + WorldRules.LEAF_DECAY +
+                " + (redstone <> 0) * " + WorldRules.REDSTONE +
+                " + (mob_spawning <> 0) * " + WorldRules.MOB_SPAWNING +
+                " + (animal_spawning <> 0) * " + WorldRules.ANIMAL_SPAWNING + ")";
+    }
+
+    static String uuidToBinarySql(String column) {
+        return "UNHEX(REPLACE(" + column + ", '-', ''))";
+    }
+
+    // Verdadeiro apenas para UUIDs em texto que UNHEX consegue converter (32 dígitos hexadecimais)
+    static String validUuidSql(String column) {
+        return "(" + column + " IS NOT NULL AND REPLACE(" + column + ", '-', '') REGEXP '^[0-9a-fA-F]{32}$')";
+    }
+
+    private static String codeCaseSql(String column, String[] names) {
+        StringBuilder sql = new StringBuilder("CASE ").append(column);
+        for (int i = 1; i < names.length; i++) {
+            sql.append(" WHEN '").append(names[i]).append("' THEN ").append(i);
+        }
+        sql.append(" ELSE 0 END");
+        return sql.toString();
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.minevoxel.mundos.database;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.models.WorldData;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WorldWriteQueue {
+
+    private final MinevoxelMundos plugin;
+    private final DatabaseManager databaseManager;
+
+    // Mundos com alterações pendentes, por ID (várias alterações viram uma única escrita)
+    private final Map<Integer, WorldData> pending = new ConcurrentHashMap<>();
+
+    // Últimos acessos pendentes, por ID (apenas a coluna last_accessed)
+    private final Map<Integer, Long> pendingTouches = new ConcurrentHashMap<>();
+
+    // Tentativas de gravação que falharam, por ID do mundo
+    private final Map<Integer, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private int maxAttempts;
+    private BukkitTask flushTask;
+
+    // Métricas
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder touches = new LongAdder();
+    private final LongAdder touchesWritten = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public WorldWriteQueue(MinevoxelMundos plugin, DatabaseManager databaseManager) {
+        this.plugin = plugin;
+        this.databaseManager = databaseManager;
+    }
+
+    public void start() {
+        maxAttempts = Math.max(1, plugin.getConfigManager().getDatabaseWriteBehindMaxAttempts());
+
+        long intervalTicks = Math.max(1, plugin.getConfigManager().getDatabaseWriteBehindInterval()) * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, intervalTicks, intervalTicks);
+    }
+
+    public void markDirty(WorldData worldData) {
+        // Mundos ainda não persistidos não têm ID para atualizar
+        if (worldData.getId() <= 0) {
+            return;
+        }
+
+        worldData.setModified(true);
+        queued.increment();
+
+        if (pending.put(worldData.getId(), worldData) != null) {
+            coalesced.increment();
+        }
+    }
+
+    public void touch(int worldId, long timestamp) {
+        if (worldId <= 0) {
+            return;
+        }
+
+        touches.increment();
+        pendingTouches.merge(worldId, timestamp, Math::max);
+    }
+
+    // Descarta tudo o que estiver pendente para o mundo (usado ao excluí-lo)
+    public void forget(int worldId) {
+        WorldData worldData = pending.remove(worldId);
+        if (worldData != null) {
+            worldData.setModified(false);
+        }
+
+        pendingTouches.remove(worldId);
+        failedAttempts.remove(worldId);
+    }
+
+    // Descarta apenas a versão pendente do mundo (os acessos continuam na fila); usado quando
+    // outro servidor gravou uma versão mais nova
+    public void discard(int worldId) {
+        WorldData worldData = pending.remove(worldId);
+        if (worldData != null) {
+            worldData.setModified(false);
+        }
+
+        failedAttempts.remove(worldId);
+    }
+
+    public void flush() {
+        List<WorldData> batch = drain();
+        Map<Integer, Long> touchBatch = drainTouches(batch);
+        if (batch.isEmpty() && touchBatch.isEmpty()) {
+            return;
+        }
+
+        databaseManager.getExecutor().runWrite(() -> write(batch, touchBatch))
+                .exceptionally(ex -> {
+                    // Fila de escrita cheia; tentar novamente no próximo intervalo
+                    requeue(batch);
+                    requeueTouches(touchBatch);
+                    return null;
+                });
+    }
+
+    private boolean write(List<WorldData> batch, Map<Integer, Long> touchBatch) {
+        boolean success = true;
+
+        if (!batch.isEmpty()) {
+            if (databaseManager.updateWorldsBatch(batch)) {
+                written.add(batch.size());
+                flushes.increment();
+                clearAttempts(batch);
+            } else if (!databaseManager.getConnector().isConnected()) {
+                // Sem conexão com o banco, a falha não é de nenhum mundo: devolver sem contar tentativa
+                requeue(batch);
+                success = false;
+            } else if (recordFailure(batch)) {
+                // O lote já falhou várias vezes: gravar cada mundo na sua própria transação,
+                // para que um mundo com problema não impeça a gravação dos outros
+                success = writeIsolated(batch);
+            } else {
+                // Devolver para a fila; alterações mais novas do mesmo mundo têm prioridade
+                requeue(batch);
+                success = false;
+            }
+        }
+
+        if (!touchBatch.isEmpty()) {
+            if (databaseManager.touchWorldsBatch(touchBatch)) {
+                touchesWritten.add(touchBatch.size());
+            } else {
+                requeueTouches(touchBatch);
+                success = false;
+            }
+        }
+
+        return success;
+    }
+
+    // Registra uma falha do lote; retorna verdadeiro se algum mundo atingiu o limite de tentativas
+    private boolean recordFailure(List<WorldData> batch) {
+        boolean limitReached = false;
+        for (WorldData worldData : batch) {
+            int attempts = failedAttempts.merge(worldData.getId(), 1, Integer::sum);
+            limitReached |= attempts >= maxAttempts;
+        }
+        return limitReached;
+    }
+
+    private boolean writeIsolated(List<WorldData> batch) {
+        boolean success = true;
+        List<WorldData> failed = new ArrayList<>();
+
+        for (WorldData worldData : batch) {
+            if (databaseManager.updateWorldsBatch(Collections.singletonList(worldData))) {
+                written.increment();
+                failedAttempts.remove(worldData.getId());
+            } else {
+                failed.add(worldData);
+                success = false;
+            }
+        }
+
+        if (failed.isEmpty()) {
+            flushes.increment();
+            return true;
+        }
+
+        // A conexão caiu durante as gravações: nenhum mundo é culpado, então as tentativas recomeçam
+        // e, com o banco de volta, os mundos voltam a ser gravados em lote
+        if (!databaseManager.getConnector().isConnected()) {
+            clearAttempts(failed);
+            requeue(failed);
+            return false;
+        }
+
+        for (WorldData worldData : failed) {
+            int attempts = failedAttempts.merge(worldData.getId(), 1, Integer::sum);
+
+            if (attempts >= maxAttempts * 2) {
+                // O mundo continua falhando sozinho (ex.: excluído com permissões pendentes)
+                failedAttempts.remove(worldData.getId());
+                worldData.setModified(false);
+                dropped.increment();
+                plugin.getLogger().severe("Descartando alterações pendentes do mundo " + worldData.getWorldName() +
+                        " (ID " + worldData.getId() + ") após " + attempts + " tentativas de gravação");
+            } else {
+                requeue(Collections.singletonList(worldData));
+            }
+        }
+
+        return success;
+    }
+
+    private void clearAttempts(List<WorldData> batch) {
+        if (failedAttempts.isEmpty()) {
+            return;
+        }
+
+        for (WorldData worldData : batch) {
+            failedAttempts.remove(worldData.getId());
+        }
+    }
+
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        // Gravar tudo o que estiver pendente na thread atual
+        List<WorldData> batch = drain();
+        Map<Integer, Long> touchBatch = drainTouches(batch);
+        if (batch.isEmpty() && touchBatch.isEmpty()) {
+            return;
+        }
+
+        if (write(batch, touchBatch)) {
+            plugin.getLogger().info((batch.size() + touchBatch.size()) + " atualizações pendentes gravadas no banco de dados.");
+        } else {
+            plugin.getLogger().severe("Falha ao gravar atualizações pendentes no desligamento.");
+        }
+    }
+
+    private List<WorldData> drain() {
+        List<WorldData> batch = new ArrayList<>();
+
+        for (Integer worldId : pending.keySet()) {
+            WorldData worldData = pending.remove(worldId);
+            if (worldData != null) {
+                // Limpar a flag antes de gravar; uma nova alteração volta a marcar o mundo
+                worldData.setModified(false);
+                batch.add(worldData);
+            }
+        }
+
+        return batch;
+    }
+
+    private Map<Integer, Long> drainTouches(List<WorldData> batch) {
+        Map<Integer, Long> touchBatch = new HashMap<>();
+
+        for (Integer worldId : pendingTouches.keySet()) {
+            Long timestamp = pendingTouches.remove(worldId);
+            if (timestamp != null) {
+                touchBatch.put(worldId, timestamp);
+            }
+        }
+
+        // Mundos gravados por completo já levam o last_accessed no mesmo UPDATE
+        for (WorldData worldData : batch) {
+            Long timestamp = touchBatch.get(worldData.getId());
+            if (timestamp != null && timestamp <= worldData.getLastAccessed().getTime()) {
+                touchBatch.remove(worldData.getId());
+            }
+        }
+
+        return touchBatch;
+    }
+
+    private void requeueTouches(Map<Integer, Long> touchBatch) {
+        for (Map.Entry<Integer, Long> entry : touchBatch.entrySet()) {
+            pendingTouches.merge(entry.getKey(), entry.getValue(), Math::max);
+        }
+    }
+
+    private void requeue(List<WorldData> batch) {
+        for (WorldData worldData : batch) {
+            worldData.setModified(true);
+            pending.putIfAbsent(worldData.getId(), worldData);
+        }
+    }
+
+    public boolean isPending(int worldId) {
+        return pending.containsKey(worldId);
+    }
+
+    // O mundo acabou de ser gravado por inteiro a partir de uma cópia da versão pendente;
+    // a versão pendente, mais antiga, não pode sobrescrevê-lo depois
+    public void supersede(WorldData saved) {
+        WorldData worldData = pending.get(saved.getId());
+        if (worldData != null && worldData != saved && pending.remove(saved.getId(), worldData)) {
+            worldData.setModified(false);
+        }
+    }
+
+    // Versão ainda não gravada do mundo, ou null se não houver nada pendente
+    public WorldData getPending(int worldId) {
+        return pending.get(worldId);
+    }
+
+    public WorldData getPendingByName(String worldName) {
+        for (WorldData worldData : pending.values()) {
+            if (worldData.getWorldName().equals(worldName)) {
+                return worldData;
+            }
+        }
+        return null;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public int getPendingTouchCount() {
+        return pendingTouches.size();
+    }
+
+    public long getTouchCount() {
+        return touches.sum();
+    }
+
+    public long getTouchesWrittenCount() {
+        return touchesWritten.sum();
+    }
+
+    public long getQueuedCount() {
+        return queued.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getFlushCount() {
+        return flushes.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public String getStatus() {
+        return "pendentes=" + getPendingCount() +
+                ", enfileiradas=" + getQueuedCount() +
+                ", agrupadas=" + getCoalescedCount() +
+                ", gravadas=" + getWrittenCount() +
+                ", lotes=" + getFlushCount() +
+                ", descartadas=" + getDroppedCount() +
+                ", acessos pendentes=" + getPendingTouchCount() +
+                ", acessos registrados=" + getTouchCount() +
+                ", acessos gravados=" + getTouchesWrittenCount();
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.minevoxel.mundos.events;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.managers.EntityLimitManager;
+import br.com.minevoxel.mundos.managers.WorldProfiler;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.CreatureSpawnEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+public class EntityEvents implements Listener {
+
+    private final EntityLimitManager limitManager;
+    private final WorldProfiler profiler;
+
+    public EntityEvents(MinevoxelMundos plugin) {
+        this.limitManager = plugin.getEntityLimitManager();
+        this.profiler = plugin.getWorldProfiler();
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onCreatureSpawn(CreatureSpawnEvent event) {
+        EntityLimitManager.Category category = EntityLimitManager.categorize(event.getEntity());
+        if (category == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        World world = event.getLocation().getWorld();
+
+        if (!limitManager.allowSpawn(world, category, event.getSpawnReason())) {
+            event.setCancelled(true);
+        }
+
+        profiler.record(world, start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCreatureSpawned(CreatureSpawnEvent event) {
+        // Contar apenas spawns que realmente aconteceram
+        limitManager.onAdded(event.getLocation().getWorld(), event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        limitManager.onRemoved(event.getEntity().getWorld(), event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            limitManager.onAdded(event.getWorld(), entity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            limitManager.onRemoved(event.getWorld(), entity);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        limitManager.forget(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        limitManager.refreshOwnerTier(event.getPlayer());
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.minevoxel.mundos.events;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.managers.RedstoneLimiter;
+import br.com.minevoxel.mundos.managers.WorldProfiler;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockRedstoneEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+public class RedstoneEvents implements Listener {
+
+    private final RedstoneLimiter limiter;
+    private final WorldProfiler profiler;
+
+    public RedstoneEvents(MinevoxelMundos plugin) {
+        this.limiter = plugin.getRedstoneLimiter();
+        this.profiler = plugin.getWorldProfiler();
+    }
+
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onBlockRedstone(BlockRedstoneEvent event) {
+        if (event.getOldCurrent() == event.getNewCurrent()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        World world = event.getBlock().getWorld();
+
+        if (!limiter.allowUpdate(world)) {
+            // O evento não é cancelável: manter a corrente anterior impede a mudança
+            event.setNewCurrent(event.getOldCurrent());
+        }
+
+        profiler.record(world, start);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        limiter.forget(event.getWorld());
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.minevoxel.mundos.events;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.managers.SafeLocationFinder;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.SpawnChangeEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+// Mantém o cache de locais seguros coerente com as mudanças de blocos
+public class SafeSpawnEvents implements Listener {
+
+    private final SafeLocationFinder finder;
+
+    public SafeSpawnEvents(MinevoxelMundos plugin) {
+        this.finder = plugin.getTeleportManager().getSafeLocationFinder();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        invalidate(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            invalidate(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            invalidate(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSpawnChange(SpawnChangeEvent event) {
+        finder.invalidateWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        finder.invalidateWorld(event.getWorld());
+    }
+
+    private void invalidate(Block block) {
+        finder.invalidate(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.minevoxel.mundos.events;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.managers.WorldRuleTable;
+import br.com.minevoxel.mundos.models.WorldRules;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPhysicsEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Eventos de alta frequência (física, líquidos, fogo, folhas) que só precisam existir enquanto algum mundo
+// carregado desativa a regra correspondente.
+// Cada grupo é registrado/removido do Bukkit conforme a tabela de regras muda; no caso comum nenhum fica registrado.
+public class WorldRuleEvents {
+
+    private final MinevoxelMundos plugin;
+    private final WorldRuleTable ruleTable;
+
+    // Grupo de listeners -> regras que o tornam necessário
+    private final Map<Listener, Integer> groups = new LinkedHashMap<>();
+    private final Map<Listener, Boolean> registered = new LinkedHashMap<>();
+
+    public WorldRuleEvents(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.ruleTable = plugin.getWorldManager().getRuleTable();
+
+        groups.put(new PhysicsListener(), WorldRules.PHYSICS);
+        groups.put(new LiquidFlowListener(), WorldRules.WATER_FLOW | WorldRules.LAVA_FLOW);
+        groups.put(new FireSpreadListener(), WorldRules.FIRE_SPREAD);
+        groups.put(new LeafDecayListener(), WorldRules.LEAF_DECAY);
+
+        for (Listener listener : groups.keySet()) {
+            registered.put(listener, false);
+        }
+    }
+
+    public void start() {
+        ruleTable.setChangeListener(() -> {
+            // A tabela pode mudar a partir de threads do banco de dados
+            if (Bukkit.isPrimaryThread()) {
+                refresh();
+            } else {
+                Bukkit.getScheduler().runTask(plugin, this::refresh);
+            }
+        });
+
+        refresh();
+    }
+
+    public void stop() {
+        ruleTable.setChangeListener(null);
+
+        for (Listener listener : groups.keySet()) {
+            HandlerList.unregisterAll(listener);
+            registered.put(listener, false);
+        }
+    }
+
+    private void refresh() {
+        for (Map.Entry<Listener, Integer> group : groups.entrySet()) {
+            Listener listener = group.getKey();
+            boolean needed = ruleTable.isAnyDisabled(group.getValue());
+            boolean active = registered.get(listener);
+
+            if (needed && !active) {
+                Bukkit.getPluginManager().registerEvents(listener, plugin);
+                registered.put(listener, true);
+                plugin.getLogger().info("Eventos ativados: " + listener.getClass().getSimpleName());
+            } else if (!needed && active) {
+                HandlerList.unregisterAll(listener);
+                registered.put(listener, false);
+                plugin.getLogger().info("Eventos desativados: " + listener.getClass().getSimpleName());
+            }
+        }
+    }
+
+    public boolean isActive(Class<? extends Listener> type) {
+        for (Map.Entry<Listener, Boolean> entry : registered.entrySet()) {
+            if (type.isInstance(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return false;
+    }
+
+    private class PhysicsListener implements Listener {
+
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onStructureGrow(StructureGrowEvent event) {
+            // Apenas mundos com alguma regra desativada (mundos principais não são registrados)
+            WorldRules rules = ruleTable.getRestrictions(event.getWorld());
+
+            if (rules != null && !rules.isPhysics()) {
+                // Se a física está desativada, impedir crescimento de estruturas
+                event.setCancelled(true);
+            }
+        }
+
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onBlockPhysics(BlockPhysicsEvent event) {
+            // Chamado a cada atualização de bloco: uma busca pelo UID do mundo, sem comparar nomes
+            WorldRules rules = ruleTable.getRestrictions(event.getBlock().getWorld());
+
+            if (rules != null && !rules.isPhysics()) {
+                // Se a física está desativada, cancelar o evento
+                event.setCancelled(true);
+            }
+        }
+    }
+
+    private class LiquidFlowListener implements Listener {
+
+        @EventHandler(priority = EventPriority.HIGH)
+        public void onLiquidFlow(BlockFromToEvent event) {
+            WorldRules rules = ruleTable.getRestrictions(event.getBlock().getWorld());
+            if (rules == null || (rules.isWaterFlow() && rules.isLavaFlow())) {
+                return;
+            }
+
+            // Verificar tipo de líquido
+            Material material = event.getBlock().getType();
+
+            if (material == Material.WATER || material == Material.WATER_CAULDRON) {
+                // Verificar fluxo de água
+                if (!rules.isWaterFlow()) {
+                    event.setCancelled(true);
+                }
+            } else if (material == Material.LAVA || material == Material.LAVA_CAULDRON) {
+                // Verificar fluxo de lava
+                if (!rules.isLavaFlow()) {
+                    event.setCancelled(true);
+                }
+            }
+        }
+    }
+
+    private class FireSpreadListener implements Listener {
+
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        public void onBlockIgnite(BlockIgniteEvent event) {
+            // Apenas fogo que se espalha sozinho; isqueiros e outras ações de jogadores continuam permitidos
+            BlockIgniteEvent.IgniteCause cause = event.getCause();
+            if (cause != BlockIgniteEvent.IgniteCause.SPREAD && cause != BlockIgniteEvent.IgniteCause.LAVA) {
+                return;
+            }
+
+            WorldRules rules = ruleTable.getRestrictions(event.getBlock().getWorld());
+            if (rules != null && !rules.isFireSpread()) {
+                event.setCancelled(true);
+            }
+        }
+
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        public void onBlockBurn(BlockBurnEvent event) {
+            WorldRules rules = ruleTable.getRestrictions(event.getBlock().getWorld());
+            if (rules != null && !rules.isFireSpread()) {
+                // Impedir que o fogo destrua blocos
+                event.setCancelled(true);
+            }
+        }
+    }
+
+    private class LeafDecayListener implements Listener {
+
+        @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+        public void onLeavesDecay(LeavesDecayEvent event) {
+            WorldRules rules = ruleTable.getRestrictions(event.getBlock().getWorld());
+            if (rules != null && !rules.isLeafDecay()) {
+                event.setCancelled(true);
+            }
+        }
+    }
+}
@@ -137,24 +137,38 @@ public class WorldCreationGUI {
                 .addLore(worldType.equals("AMPLIFIED") ? "§a§lSELECIONADO" : "§7Clique para selecionar")
                 .build();
 
-        inventory.setItem(19, normal);
-        inventory.setItem(20, flat);
-        inventory.setItem(21, amplified);
+        ItemStack empty = new ItemBuilder(Material.GLASS)
+                .setName("§a§lMundo Vazio")
+                .addLore("§7Um mundo sem terreno, apenas")
+                .addLore("§7uma pequena plataforma no spawn.")
+                .addLore("")
+                .addLore(worldType.equals("VOID") ? "§a§lSELECIONADO" : "§7Clique para selecionar")
+                .build();
 
-        clickActions.put(19, () -> {
+        inventory.setItem(18, normal);
+        inventory.setItem(19, flat);
+        inventory.setItem(20, amplified);
+        inventory.setItem(21, empty);
+
+        clickActions.put(18, () -> {
             worldType = "NORMAL";
             updateInventory();
         });
 
-        clickActions.put(20, () -> {
+        clickActions.put(19, () -> {
             worldType = "FLAT";
             updateInventory();
         });
 
-        clickActions.put(21, () -> {
+        clickActions.put(20, () -> {
             worldType = "AMPLIFIED";
             updateInventory();
         });
+
+        clickActions.put(21, () -> {
+            worldType = "VOID";
+            updateInventory();
+        });
     }
 
     private void addEnvironmentOptions() {
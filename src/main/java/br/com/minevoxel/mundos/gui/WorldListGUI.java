@@ -2,6 +2,7 @@ package br.com.minevoxel.mundos.gui;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
 import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.models.WorldPage;
 import br.com.minevoxel.mundos.utils.ItemBuilder;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -26,6 +27,11 @@ public class WorldListGUI {
     private List<WorldData> worlds = new ArrayList<>();
     private int currentPage = 0;
     private final int pageSize = 36; // Slots 0-35 para mundos (4 linhas)
+
+    // Paginação no banco de dados: posição inicial de cada página já visitada
+    private final List<WorldPage.Cursor> pageCursors = new ArrayList<>();
+    private boolean hasNextPage = false;
+    private int loadGeneration = 0;
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
 
     // Mapeamento de slots para mundos e ações
@@ -81,44 +87,67 @@ public class WorldListGUI {
     }
 
     private void loadWorlds() {
+        // Voltar para a primeira página
+        currentPage = 0;
+        pageCursors.clear();
+        pageCursors.add(null);
+
+        loadPage();
+    }
+
+    private void loadPage() {
         // Limpar dados existentes
         worlds.clear();
+        worldSlots.clear();
+        actionSlots.clear();
+        hasNextPage = false;
 
         // Mostrar mensagem de carregamento
         updateLoadingInventory();
 
-        // Carregar mundos com base no tipo de lista
-        CompletableFuture<List<WorldData>> worldsFuture;
+        // Carregar apenas a página exibida, com base no tipo de lista
+        WorldPage.Cursor cursor = pageCursors.get(currentPage);
+        CompletableFuture<WorldPage> pageFuture;
 
         switch (listType) {
             case MY_WORLDS:
-                worldsFuture = plugin.getDatabaseManager().getWorldsByOwner(player.getUniqueId());
+                pageFuture = plugin.getDatabaseManager().getWorldsByOwnerPage(player.getUniqueId(), cursor, pageSize);
                 break;
             case ACCESSIBLE_WORLDS:
-                worldsFuture = plugin.getDatabaseManager().getAccessibleWorlds(player.getUniqueId());
+                pageFuture = plugin.getDatabaseManager().getAccessibleWorldsPage(player.getUniqueId(), cursor, pageSize);
                 break;
             case ALL_WORLDS:
                 if (player.hasPermission("minevoxel.admin")) {
-                    // Implementar método para buscar todos os mundos
-                    worldsFuture = CompletableFuture.completedFuture(new ArrayList<>());
+                    pageFuture = plugin.getDatabaseManager().getAllWorldsPage(cursor, pageSize);
                 } else {
                     // Jogador sem permissão, mostrar apenas os acessíveis
-                    worldsFuture = plugin.getDatabaseManager().getAccessibleWorlds(player.getUniqueId());
+                    pageFuture = plugin.getDatabaseManager().getAccessibleWorldsPage(player.getUniqueId(), cursor, pageSize);
                 }
                 break;
             default:
-                worldsFuture = CompletableFuture.completedFuture(new ArrayList<>());
+                pageFuture = CompletableFuture.completedFuture(WorldPage.empty());
         }
 
-        worldsFuture.thenAccept(loadedWorlds -> {
-            worlds = loadedWorlds;
+        // Ignorar respostas de carregamentos anteriores (cliques rápidos nos botões)
+        int generation = ++loadGeneration;
 
-            // Classificar mundos (mais recentemente acessados primeiro)
-            worlds.sort((w1, w2) -> w2.getLastAccessed().compareTo(w1.getLastAccessed()));
+        pageFuture.thenAccept(page -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (generation != loadGeneration) {
+                return;
+            }
+
+            // Mundos já vêm ordenados pelo último acesso (mais recentes primeiro)
+            worlds = new ArrayList<>(page.getWorlds());
+            hasNextPage = page.hasMore();
+
+            // Registrar a posição da próxima página
+            if (hasNextPage && pageCursors.size() == currentPage + 1) {
+                pageCursors.add(page.getNextCursor());
+            }
 
             // Atualizar inventário
             updateInventory();
-        });
+        }));
     }
 
     private void updateLoadingInventory() {
@@ -156,16 +185,6 @@ public class WorldListGUI {
     }
 
     private void addWorldItems() {
-        int startIndex = currentPage * pageSize;
-        int endIndex = Math.min(startIndex + pageSize, worlds.size());
-
-        if (startIndex >= worlds.size()) {
-            // Página atual não tem mundos, voltar para a primeira página
-            currentPage = 0;
-            startIndex = 0;
-            endIndex = Math.min(pageSize, worlds.size());
-        }
-
         // Verificar se há mundos para exibir
         if (worlds.isEmpty()) {
             ItemStack noWorldsItem = new ItemBuilder(Material.BARRIER)
@@ -180,10 +199,9 @@ public class WorldListGUI {
             return;
         }
 
-        // Adicionar itens de mundo
-        for (int i = startIndex; i < endIndex; i++) {
-            WorldData world = worlds.get(i);
-            int slot = i - startIndex;
+        // Adicionar itens de mundo (a lista contém apenas a página atual)
+        for (int slot = 0; slot < worlds.size() && slot < pageSize; slot++) {
+            WorldData world = worlds.get(slot);
 
             Material material;
             if (world.getOwnerUUID().equals(player.getUniqueId())) {
@@ -257,6 +275,8 @@ public class WorldListGUI {
             return "Plano";
         } else if ("AMPLIFIED".equals(worldType)) {
             return "Amplificado";
+        } else if ("VOID".equals(worldType)) {
+            return "Vazio";
         } else {
             return worldType;
         }
@@ -289,26 +309,25 @@ public class WorldListGUI {
     }
 
     private void addNavigationButtons() {
-        // Adicionar botões apenas se houver mais de uma página
-        if (worlds.size() > pageSize) {
-            // Botão de página anterior
+        // Botão de página anterior
+        if (currentPage > 0) {
             ItemStack previousPage = new ItemBuilder(Material.ARROW)
                     .setName("§aPágina Anterior")
                     .addLore("§7Página atual: §f" + (currentPage + 1))
-                    .addLore("§7Total de páginas: §f" + ((worlds.size() - 1) / pageSize + 1))
                     .build();
 
-            // Botão de próxima página
+            inventory.setItem(45, previousPage);
+            actionSlots.put(45, this::previousPage);
+        }
+
+        // Botão de próxima página
+        if (hasNextPage) {
             ItemStack nextPage = new ItemBuilder(Material.ARROW)
                     .setName("§aPróxima Página")
                     .addLore("§7Página atual: §f" + (currentPage + 1))
-                    .addLore("§7Total de páginas: §f" + ((worlds.size() - 1) / pageSize + 1))
                     .build();
 
-            inventory.setItem(45, previousPage);
             inventory.setItem(53, nextPage);
-
-            actionSlots.put(45, this::previousPage);
             actionSlots.put(53, this::nextPage);
         }
     }
@@ -435,15 +454,14 @@ public class WorldListGUI {
     private void previousPage() {
         if (currentPage > 0) {
             currentPage--;
-            updateInventory();
+            loadPage();
         }
     }
 
     private void nextPage() {
-        int maxPage = (worlds.size() - 1) / pageSize;
-        if (currentPage < maxPage) {
+        if (hasNextPage && pageCursors.size() > currentPage + 1) {
             currentPage++;
-            updateInventory();
+            loadPage();
         }
     }
 
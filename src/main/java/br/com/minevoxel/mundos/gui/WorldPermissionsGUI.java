@@ -364,15 +364,13 @@ public class WorldPermissionsGUI {
     }
 
     private void updateWorld() {
-        // Atualizar mundo no banco de dados
+        // Atualizar mundo no banco de dados; depois do commit os outros servidores são avisados
+        // (no lobby, o servidor de mundos aplica as novas configurações ao receber o aviso)
         plugin.getDatabaseManager().updateWorld(worldData);
 
         // Se estivermos no servidor de mundos e o mundo estiver carregado, atualizar configurações
         if (plugin.isWorldsServer() && plugin.getWorldManager().isWorldLoaded(worldData.getWorldName())) {
             plugin.getWorldManager().updateWorldSettings(worldData);
-        } else if (plugin.isLobbyServer()) {
-            // Se estivermos no lobby, enviar mensagem para atualizar no servidor de mundos
-            plugin.getMessageChannels().sendWorldUpdateMessage(worldData.getId());
         }
     }
 
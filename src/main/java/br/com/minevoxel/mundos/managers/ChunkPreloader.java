@@ -0,0 +1,180 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+// Carrega os chunks ao redor do destino antes do teleporte, para que o jogador não chegue
+// enquanto o servidor ainda gera/carrega o spawn de forma síncrona.
+// No Paper usa World#getChunkAtAsync; no Spigot distribui os carregamentos entre vários ticks.
+// Os chunks recebem um ticket do plugin depois de carregados, até o teleporte terminar (ver release).
+// O ticket só é adicionado a chunks já carregados, pois addPluginChunkTicket carrega o chunk de forma síncrona.
+// O Bukkit guarda um único ticket por plugin e chunk, então contamos as referências: teleportes simultâneos
+// para o mesmo spawn não removem os tickets uns dos outros.
+public class ChunkPreloader {
+
+    private final MinevoxelMundos plugin;
+
+    // Referências ao ticket do plugin por mundo e chunk
+    private final Map<UUID, Map<Long, Integer>> ticketCounts = new HashMap<>();
+
+    // World#getChunkAtAsync(int, int) do Paper, ou null no Spigot
+    private final Method asyncChunkMethod;
+
+    public ChunkPreloader(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.asyncChunkMethod = findAsyncChunkMethod();
+
+        if (asyncChunkMethod != null) {
+            plugin.getLogger().info("Pré-carregamento de chunks: usando carregamento assíncrono do Paper");
+        } else {
+            plugin.getLogger().info("Pré-carregamento de chunks: distribuindo carregamentos entre ticks (Spigot)");
+        }
+    }
+
+    private static Method findAsyncChunkMethod() {
+        try {
+            return World.class.getMethod("getChunkAtAsync", int.class, int.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    // Deve ser chamado na thread principal; o futuro completa na thread principal com os chunks que
+    // receberam ticket, que devem ser devolvidos a release depois do teleporte
+    public CompletableFuture<List<Long>> preload(Location center, int radius) {
+        World world = center.getWorld();
+        int centerX = center.getBlockX() >> 4;
+        int centerZ = center.getBlockZ() >> 4;
+
+        // Ordem: do centro para fora, para que o chunk do destino fique pronto primeiro
+        List<Long> acquired = new ArrayList<>();
+        List<int[]> chunks = new ArrayList<>();
+        for (int r = 0; r <= radius; r++) {
+            for (int dx = -r; dx <= r; dx++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != r) continue;
+
+                    int chunkX = centerX + dx;
+                    int chunkZ = centerZ + dz;
+
+                    if (world.isChunkLoaded(chunkX, chunkZ)) {
+                        acquire(world, chunkX, chunkZ, acquired);
+                    } else {
+                        chunks.add(new int[]{chunkX, chunkZ});
+                    }
+                }
+            }
+        }
+
+        if (chunks.isEmpty()) {
+            return CompletableFuture.completedFuture(acquired);
+        }
+
+        return asyncChunkMethod != null ? preloadAsync(world, chunks, acquired) : preloadSpread(world, chunks, acquired);
+    }
+
+    private CompletableFuture<List<Long>> preloadAsync(World world, List<int[]> chunks, List<Long> acquired) {
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        for (int[] chunk : chunks) {
+            try {
+                futures.add((CompletableFuture<?>) asyncChunkMethod.invoke(world, chunk[0], chunk[1]));
+            } catch (Exception e) {
+                plugin.getLogger().warning("Falha ao carregar chunk de forma assíncrona: " + e.getMessage());
+                world.getChunkAt(chunk[0], chunk[1]);
+            }
+        }
+
+        CompletableFuture<List<Long>> future = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((result, ex) -> {
+            // Voltar para a thread principal antes de continuar o teleporte
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                for (int[] chunk : chunks) {
+                    if (world.isChunkLoaded(chunk[0], chunk[1])) {
+                        acquire(world, chunk[0], chunk[1], acquired);
+                    }
+                }
+                future.complete(acquired);
+            });
+        });
+        return future;
+    }
+
+    private CompletableFuture<List<Long>> preloadSpread(World world, List<int[]> chunks, List<Long> acquired) {
+        CompletableFuture<List<Long>> future = new CompletableFuture<>();
+        Deque<int[]> queue = new ArrayDeque<>(chunks);
+        int chunksPerTick = Math.max(1, plugin.getConfigManager().getTeleportPreloadChunksPerTick());
+
+        Bukkit.getScheduler().runTaskTimer(plugin, task -> {
+            for (int i = 0; i < chunksPerTick && !queue.isEmpty(); i++) {
+                int[] chunk = queue.poll();
+                world.getChunkAt(chunk[0], chunk[1]);
+                acquire(world, chunk[0], chunk[1], acquired);
+            }
+
+            if (queue.isEmpty()) {
+                task.cancel();
+                future.complete(acquired);
+            }
+        }, 0L, 1L);
+
+        return future;
+    }
+
+    // Adiciona o ticket apenas na primeira referência ao chunk
+    private void acquire(World world, int chunkX, int chunkZ, List<Long> acquired) {
+        long key = chunkKey(chunkX, chunkZ);
+        Map<Long, Integer> counts = ticketCounts.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+
+        if (counts.merge(key, 1, Integer::sum) == 1) {
+            world.addPluginChunkTicket(chunkX, chunkZ, plugin);
+        }
+        acquired.add(key);
+    }
+
+    // Devolve os tickets de um preload depois do teleporte; o ticket só sai quando ninguém mais usa o chunk
+    // e o próprio jogador passa a manter os chunks carregados
+    public void release(World world, List<Long> acquired) {
+        Map<Long, Integer> counts = ticketCounts.get(world.getUID());
+        if (counts == null) {
+            return;
+        }
+
+        for (long key : acquired) {
+            Integer count = counts.get(key);
+            if (count == null) {
+                continue;
+            }
+
+            if (count > 1) {
+                counts.put(key, count - 1);
+            } else {
+                counts.remove(key);
+                world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+            }
+        }
+
+        if (counts.isEmpty()) {
+            ticketCounts.remove(world.getUID());
+        }
+    }
+
+    // Mundo descarregado: os tickets somem com ele
+    public void forget(World world) {
+        ticketCounts.remove(world.getUID());
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public boolean isAsyncSupported() {
+        return asyncChunkMethod != null;
+    }
+}
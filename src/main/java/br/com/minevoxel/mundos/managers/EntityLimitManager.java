@@ -0,0 +1,315 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.models.WorldRules;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.*;
+import org.bukkit.event.entity.CreatureSpawnEvent.SpawnReason;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+// Limites de entidades por mundo. Os contadores são mantidos pelos eventos de spawn/morte/chunks
+// e recontados periodicamente, então o spawn nunca precisa percorrer a lista de entidades do mundo.
+// Todos os métodos rodam na thread principal.
+public class EntityLimitManager {
+
+    public enum Category {
+        MONSTER,
+        ANIMAL
+    }
+
+    // Spawns controlados pelas regras mobSpawning/animalSpawning do mundo
+    private static final Set<SpawnReason> NATURAL_REASONS = EnumSet.of(
+            SpawnReason.NATURAL, SpawnReason.CHUNK_GEN, SpawnReason.SPAWNER, SpawnReason.PATROL,
+            SpawnReason.RAID, SpawnReason.REINFORCEMENTS, SpawnReason.JOCKEY, SpawnReason.MOUNT);
+
+    // Spawns feitos por comandos ou outros plugins não contam para o limite
+    private static final Set<SpawnReason> EXEMPT_REASONS = EnumSet.of(SpawnReason.CUSTOM, SpawnReason.COMMAND);
+
+    private static class EntityTier {
+        private final String name;
+        private final String permission;
+        private final int monsters;
+        private final int animals;
+
+        private EntityTier(String name, String permission, int monsters, int animals) {
+            this.name = name;
+            this.permission = permission;
+            this.monsters = monsters;
+            this.animals = animals;
+        }
+
+        private int getLimit(Category category) {
+            return category == Category.MONSTER ? monsters : animals;
+        }
+    }
+
+    private static class WorldCounter {
+        private final WorldData worldData;
+        private EntityTier tier;
+        private int monsters;
+        private int animals;
+        private long rejected;
+
+        private WorldCounter(WorldData worldData, EntityTier tier) {
+            this.worldData = worldData;
+            this.tier = tier;
+        }
+
+        private int get(Category category) {
+            return category == Category.MONSTER ? monsters : animals;
+        }
+
+        private void add(Category category, int delta) {
+            if (category == Category.MONSTER) {
+                monsters = Math.max(0, monsters + delta);
+            } else {
+                animals = Math.max(0, animals + delta);
+            }
+        }
+    }
+
+    private final MinevoxelMundos plugin;
+    private final WorldRuleTable ruleTable;
+    private final Map<UUID, WorldCounter> counters = new HashMap<>();
+
+    // Nível do dono de cada mundo, lembrado enquanto o dono está offline
+    private final Map<UUID, EntityTier> ownerTiers = new HashMap<>();
+    private final List<EntityTier> tiers = new ArrayList<>();
+    private EntityTier defaultTier;
+    private BukkitTask resyncTask;
+
+    // Métricas
+    private long rejectedByCap;
+    private long rejectedByRule;
+    private long resyncs;
+
+    public EntityLimitManager(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.ruleTable = plugin.getWorldManager().getRuleTable();
+    }
+
+    public void start() {
+        loadTiers();
+
+        long intervalTicks = Math.max(1, plugin.getConfigManager().getEntityLimitResyncInterval()) * 20L;
+        resyncTask = Bukkit.getScheduler().runTaskTimer(plugin, this::resyncAll, intervalTicks, intervalTicks);
+    }
+
+    public void stop() {
+        if (resyncTask != null) {
+            resyncTask.cancel();
+            resyncTask = null;
+        }
+
+        counters.clear();
+    }
+
+    private void loadTiers() {
+        Config config = plugin.getConfigManager();
+        tiers.clear();
+        defaultTier = new EntityTier("default", null, 70, 50);
+
+        ConfigurationSection section = config.getEntityTiers();
+        if (section != null) {
+            for (String name : section.getKeys(false)) {
+                ConfigurationSection tierSection = section.getConfigurationSection(name);
+                if (tierSection == null) continue;
+
+                EntityTier tier = new EntityTier(name,
+                        tierSection.getString("permission"),
+                        tierSection.getInt("monsters", defaultTier.monsters),
+                        tierSection.getInt("animals", defaultTier.animals));
+
+                if (tier.permission == null || tier.permission.isEmpty()) {
+                    defaultTier = tier;
+                } else {
+                    tiers.add(tier);
+                }
+            }
+        }
+
+        plugin.getLogger().info("Limites de entidades carregados: " + (tiers.size() + 1) + " níveis");
+    }
+
+    public static Category categorize(Entity entity) {
+        if (entity instanceof Enemy) {
+            return Category.MONSTER;
+        }
+
+        if (entity instanceof Animals || entity instanceof WaterMob || entity instanceof Ambient) {
+            return Category.ANIMAL;
+        }
+
+        return null;
+    }
+
+    // Decide se o spawn pode acontecer; chamado antes de a entidade entrar no mundo
+    public boolean allowSpawn(World world, Category category, SpawnReason reason) {
+        WorldData worldData = ruleTable.getWorldData(world);
+        if (worldData == null) {
+            return true;
+        }
+
+        WorldCounter counter = getCounter(world, worldData);
+
+        // Regras do mundo para spawns naturais
+        if (NATURAL_REASONS.contains(reason)) {
+            WorldRules rules = worldData.getRules();
+            boolean allowed = category == Category.MONSTER ? rules.isMobSpawning() : rules.isAnimalSpawning();
+
+            if (!allowed) {
+                rejectedByRule++;
+                counter.rejected++;
+                return false;
+            }
+        }
+
+        if (EXEMPT_REASONS.contains(reason)) {
+            return true;
+        }
+
+        if (counter.get(category) >= counter.tier.getLimit(category)) {
+            rejectedByCap++;
+            counter.rejected++;
+            return false;
+        }
+
+        return true;
+    }
+
+    public void onAdded(World world, Entity entity) {
+        adjust(world, entity, 1);
+    }
+
+    public void onRemoved(World world, Entity entity) {
+        adjust(world, entity, -1);
+    }
+
+    private void adjust(World world, Entity entity, int delta) {
+        Category category = categorize(entity);
+        if (category == null) {
+            return;
+        }
+
+        WorldCounter counter = counters.get(world.getUID());
+        if (counter != null) {
+            counter.add(category, delta);
+        }
+    }
+
+    public void forget(World world) {
+        counters.remove(world.getUID());
+    }
+
+    // Jogador entrou: atualizar o nível dos mundos dele
+    public void refreshOwnerTier(Player player) {
+        EntityTier tier = resolveTier(player);
+        ownerTiers.put(player.getUniqueId(), tier);
+
+        for (WorldCounter counter : counters.values()) {
+            if (counter.worldData.getOwnerUUID().equals(player.getUniqueId())) {
+                counter.tier = tier;
+            }
+        }
+    }
+
+    private WorldCounter getCounter(World world, WorldData worldData) {
+        WorldCounter counter = counters.get(world.getUID());
+        if (counter == null) {
+            counter = new WorldCounter(worldData, getOwnerTier(worldData.getOwnerUUID()));
+            recount(world, counter);
+            counters.put(world.getUID(), counter);
+        }
+        return counter;
+    }
+
+    private EntityTier getOwnerTier(UUID ownerUUID) {
+        Player owner = Bukkit.getPlayer(ownerUUID);
+        if (owner != null) {
+            EntityTier tier = resolveTier(owner);
+            ownerTiers.put(ownerUUID, tier);
+            return tier;
+        }
+
+        return ownerTiers.getOrDefault(ownerUUID, defaultTier);
+    }
+
+    private EntityTier resolveTier(Player player) {
+        // O último nível da lista que o jogador possui prevalece
+        EntityTier result = defaultTier;
+        for (EntityTier tier : tiers) {
+            if (player.hasPermission(tier.permission)) {
+                result = tier;
+            }
+        }
+        return result;
+    }
+
+    private void resyncAll() {
+        Iterator<Map.Entry<UUID, WorldCounter>> iterator = counters.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, WorldCounter> entry = iterator.next();
+            World world = Bukkit.getWorld(entry.getKey());
+
+            if (world == null) {
+                iterator.remove();
+                continue;
+            }
+
+            recount(world, entry.getValue());
+        }
+
+        resyncs++;
+    }
+
+    // Corrige desvios dos contadores (despawns não geram eventos no Spigot)
+    private void recount(World world, WorldCounter counter) {
+        int monsters = 0;
+        int animals = 0;
+
+        for (LivingEntity entity : world.getLivingEntities()) {
+            Category category = categorize(entity);
+            if (category == Category.MONSTER) {
+                monsters++;
+            } else if (category == Category.ANIMAL) {
+                animals++;
+            }
+        }
+
+        counter.monsters = monsters;
+        counter.animals = animals;
+    }
+
+    public long getRejectedByCap() {
+        return rejectedByCap;
+    }
+
+    public long getRejectedByRule() {
+        return rejectedByRule;
+    }
+
+    public long getResyncCount() {
+        return resyncs;
+    }
+
+    public List<String> getStatus() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Spawns bloqueados: limite=" + rejectedByCap + ", regra=" + rejectedByRule + ", recontagens=" + resyncs);
+
+        for (WorldCounter counter : counters.values()) {
+            lines.add(counter.worldData.getWorldName() + " [" + counter.tier.name + "]: monstros="
+                    + counter.monsters + "/" + counter.tier.monsters
+                    + ", animais=" + counter.animals + "/" + counter.tier.animals
+                    + ", bloqueados=" + counter.rejected);
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+// Descarregamento de mundos ociosos orientado a eventos: quando o último jogador sai de um mundo,
+// uma tarefa é agendada para o prazo exato de descarregamento; se alguém entra antes, ela é cancelada.
+// Não há varredura periódica dos mundos. Todos os métodos rodam na thread principal.
+public class IdleUnloadScheduler {
+
+    // Intervalo entre novas tentativas quando o descarregamento falha (o mesmo da antiga varredura)
+    private static final long RETRY_DELAY_TICKS = 5L * 60L * 20L;
+
+    private final MinevoxelMundos plugin;
+    private final long unloadDelayTicks;
+
+    // Mundo vazio -> tarefa de descarregamento agendada
+    private final Map<String, BukkitTask> pending = new HashMap<>();
+
+    // Mundo vazio -> momento em que ficou vazio
+    private final Map<String, Long> idleSince = new HashMap<>();
+
+    public IdleUnloadScheduler(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.unloadDelayTicks = Math.max(1L, plugin.getConfigManager().getWorldUnloadDelay() * 60L * 20L);
+    }
+
+    public void start() {
+        // Mundos que já estão carregados e vazios (ex.: carregados pelo Multiverse na inicialização)
+        for (World world : Bukkit.getWorlds()) {
+            if (world.getPlayers().isEmpty()) {
+                markIdle(world);
+            }
+        }
+    }
+
+    public void stop() {
+        for (BukkitTask task : pending.values()) {
+            task.cancel();
+        }
+
+        pending.clear();
+        idleSince.clear();
+    }
+
+    public static boolean isMainWorld(String worldName) {
+        return worldName.equalsIgnoreCase("world") ||
+                worldName.equalsIgnoreCase("lobby") ||
+                worldName.equals("world_nether") ||
+                worldName.equals("world_the_end");
+    }
+
+    // O último jogador saiu do mundo (ou ele foi carregado sem ninguém)
+    public void markIdle(World world) {
+        String worldName = world.getName();
+
+        if (isMainWorld(worldName) || pending.containsKey(worldName)) {
+            return;
+        }
+
+        idleSince.put(worldName, System.currentTimeMillis());
+        pending.put(worldName, Bukkit.getScheduler().runTaskLater(plugin, () -> expire(worldName), unloadDelayTicks));
+    }
+
+    // Um jogador entrou no mundo
+    public void markActive(World world) {
+        cancel(world.getName());
+    }
+
+    // O mundo foi descarregado por qualquer motivo
+    public void forget(World world) {
+        cancel(world.getName());
+    }
+
+    private void cancel(String worldName) {
+        BukkitTask task = pending.remove(worldName);
+        if (task != null) {
+            task.cancel();
+        }
+
+        idleSince.remove(worldName);
+    }
+
+    private void expire(String worldName) {
+        pending.remove(worldName);
+
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            idleSince.remove(worldName);
+            return;
+        }
+
+        // Conferir novamente: alguém pode ter entrado sem disparar os eventos esperados
+        if (!world.getPlayers().isEmpty()) {
+            idleSince.remove(worldName);
+            return;
+        }
+
+        plugin.getLogger().info("Descarregando mundo não utilizado: " + worldName);
+
+        boolean success = plugin.getWorldManager().unloadWorld(worldName, true);
+        if (success) {
+            idleSince.remove(worldName);
+            plugin.getLogger().info("Mundo descarregado com sucesso: " + worldName);
+        } else {
+            // O mundo continua ocioso (e visível para o MemoryPressureEvictor); tentar de novo mais tarde
+            plugin.getLogger().warning("Falha ao descarregar mundo: " + worldName + ". Nova tentativa em "
+                    + (RETRY_DELAY_TICKS / 20L / 60L) + " minutos");
+            pending.put(worldName, Bukkit.getScheduler().runTaskLater(plugin, () -> expire(worldName), RETRY_DELAY_TICKS));
+        }
+    }
+
+    public boolean isIdle(String worldName) {
+        return idleSince.containsKey(worldName);
+    }
+
+    // Momento em que o mundo ficou vazio, ou null se ele não está ocioso
+    public Long getIdleSince(String worldName) {
+        return idleSince.get(worldName);
+    }
+
+    public Set<String> getIdleWorlds() {
+        return Collections.unmodifiableSet(idleSince.keySet());
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,233 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import br.com.minevoxel.mundos.models.WorldData;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.*;
+
+// Descarrega antecipadamente mundos vazios quando a memória ou o número de chunks carregados
+// passa da marca alta, sem esperar o tempo de inatividade. Os mundos usados há mais tempo saem
+// primeiro, até a memória voltar abaixo da marca baixa.
+// A memória é medida depois da coleta de lixo (uso da geração antiga após o último GC): o uso
+// instantâneo do heap inclui lixo ainda não coletado e passa da marca alta em operação normal.
+// Todos os métodos rodam na thread principal.
+public class MemoryPressureEvictor {
+
+    private final MinevoxelMundos plugin;
+    private final IdleUnloadScheduler idleScheduler;
+
+    // Pool da geração antiga (G1 Old Gen, Tenured Gen, etc.), ou null se a JVM não informar
+    private final MemoryPoolMXBean oldGenPool;
+
+    private double highWatermark;
+    private double lowWatermark;
+    private int maxChunks;
+    private int evictionsPerCheck;
+    private BukkitTask checkTask;
+
+    // Em pressão: continuar descarregando até ficar abaixo da marca baixa
+    private boolean underPressure;
+
+    // Coletas da geração antiga no momento do último descarregamento; a medição só muda depois da próxima
+    private long collectionsAtLastEviction = -1;
+
+    // Métricas
+    private long evictions;
+    private long pressureEpisodes;
+
+    public MemoryPressureEvictor(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.idleScheduler = plugin.getIdleUnloadScheduler();
+        this.oldGenPool = findOldGenPool();
+
+        if (oldGenPool == null) {
+            plugin.getLogger().warning("Pool da geração antiga não encontrado; usando o uso total do heap para medir a memória");
+        }
+    }
+
+    // O pool de heap que informa o uso após a coleta e guarda os objetos de longa duração
+    private static MemoryPoolMXBean findOldGenPool() {
+        MemoryPoolMXBean fallback = null;
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported()) {
+                continue;
+            }
+
+            String name = pool.getName();
+            if (name.contains("Old") || name.contains("Tenured")) {
+                return pool;
+            }
+
+            // Coletores de uma só geração (ZGC, Shenandoah) têm um único pool
+            if (fallback == null || pool.getUsage().getMax() > fallback.getUsage().getMax()) {
+                fallback = pool;
+            }
+        }
+
+        return fallback;
+    }
+
+    public void start() {
+        Config config = plugin.getConfigManager();
+        highWatermark = config.getMemoryHighWatermark() / 100.0;
+        lowWatermark = Math.min(highWatermark, config.getMemoryLowWatermark() / 100.0);
+        maxChunks = config.getMemoryMaxChunks();
+        evictionsPerCheck = Math.max(1, config.getMemoryEvictionsPerCheck());
+
+        long intervalTicks = Math.max(1, config.getMemoryCheckInterval()) * 20L;
+        checkTask = Bukkit.getScheduler().runTaskTimer(plugin, this::check, intervalTicks, intervalTicks);
+    }
+
+    public void stop() {
+        if (checkTask != null) {
+            checkTask.cancel();
+            checkTask = null;
+        }
+    }
+
+    // Fração da memória ocupada por objetos que sobreviveram à última coleta
+    public double getHeapUsage() {
+        if (oldGenPool != null) {
+            MemoryUsage afterGc = oldGenPool.getCollectionUsage();
+            if (afterGc != null) {
+                long max = afterGc.getMax() > 0 ? afterGc.getMax() : oldGenPool.getUsage().getCommitted();
+                if (max > 0) {
+                    return (double) afterGc.getUsed() / max;
+                }
+            }
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return (double) used / runtime.maxMemory();
+    }
+
+    private int countLoadedChunks() {
+        int chunks = 0;
+        for (World world : Bukkit.getWorlds()) {
+            chunks += world.getLoadedChunks().length;
+        }
+        return chunks;
+    }
+
+    private void check() {
+        double heap = getHeapUsage();
+        int chunks = maxChunks > 0 ? countLoadedChunks() : 0;
+
+        // O limite de chunks usa a mesma proporção entre as marcas alta e baixa da memória
+        boolean overHigh = heap >= highWatermark || (maxChunks > 0 && chunks >= maxChunks);
+        boolean underLow = heap < lowWatermark && (maxChunks <= 0 || chunks < maxChunks * lowWatermark / highWatermark);
+
+        if (!underPressure) {
+            if (!overHigh) {
+                return;
+            }
+
+            underPressure = true;
+            pressureEpisodes++;
+            plugin.getLogger().warning(String.format("Memória alta (heap %.0f%%, %d chunks): descarregando mundos vazios",
+                    heap * 100, chunks));
+        } else if (underLow) {
+            underPressure = false;
+            plugin.getLogger().info(String.format("Memória normalizada (heap %.0f%%, %d chunks)", heap * 100, chunks));
+            return;
+        }
+
+        // Sem uma nova coleta a medição do heap não reflete os mundos já descarregados; esperar por ela.
+        // A contagem de chunks muda na hora, então o limite de chunks não espera
+        boolean chunkPressure = maxChunks > 0 && chunks >= maxChunks * lowWatermark / highWatermark;
+        long collections = getOldGenCollections();
+        if (!chunkPressure && collections >= 0 && collections == collectionsAtLastEviction) {
+            return;
+        }
+
+        if (evictLeastRecentlyUsed(evictionsPerCheck) > 0) {
+            collectionsAtLastEviction = collections;
+        }
+    }
+
+    // Total de coletas feitas pelos coletores que cuidam da geração antiga, ou -1 se desconhecido
+    private long getOldGenCollections() {
+        if (oldGenPool == null) {
+            return -1;
+        }
+
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (Arrays.asList(collector.getMemoryPoolNames()).contains(oldGenPool.getName())) {
+                total += Math.max(0, collector.getCollectionCount());
+            }
+        }
+        return total;
+    }
+
+    private int evictLeastRecentlyUsed(int limit) {
+        List<String> candidates = new ArrayList<>(idleScheduler.getIdleWorlds());
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        candidates.sort(Comparator.comparingLong(this::getLastActivity));
+
+        int evicted = 0;
+        for (String worldName : candidates) {
+            if (evicted >= limit) break;
+
+            World world = Bukkit.getWorld(worldName);
+            if (world == null || !world.getPlayers().isEmpty()) {
+                continue;
+            }
+
+            plugin.getLogger().info("Descarregando mundo vazio por falta de memória: " + worldName);
+
+            // O evento de descarregamento cancela o agendamento do mundo
+            if (plugin.getWorldManager().unloadWorld(worldName, true)) {
+                evicted++;
+                evictions++;
+            } else {
+                plugin.getLogger().warning("Falha ao descarregar mundo: " + worldName);
+            }
+        }
+
+        return evicted;
+    }
+
+    // Último uso do mundo: o maior entre o último acesso registrado e o momento em que ficou vazio
+    private long getLastActivity(String worldName) {
+        long lastActivity = 0;
+
+        Long idleSince = idleScheduler.getIdleSince(worldName);
+        if (idleSince != null) {
+            lastActivity = idleSince;
+        }
+
+        WorldData worldData = plugin.getWorldManager().getWorldData(worldName);
+        if (worldData != null && worldData.getLastAccessed() != null) {
+            lastActivity = Math.max(lastActivity, worldData.getLastAccessed().getTime());
+        }
+
+        return lastActivity;
+    }
+
+    public boolean isUnderPressure() {
+        return underPressure;
+    }
+
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    public long getPressureEpisodes() {
+        return pressureEpisodes;
+    }
+}
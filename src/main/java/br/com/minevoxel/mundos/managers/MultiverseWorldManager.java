@@ -2,6 +2,7 @@ package br.com.minevoxel.mundos.managers;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
 import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.utils.VoidChunkGenerator;
 import com.onarandombox.MultiverseCore.MultiverseCore;
 import com.onarandombox.MultiverseCore.api.MVWorldManager;
 import com.onarandombox.MultiverseCore.api.MultiverseWorld;
@@ -17,6 +18,7 @@ import java.io.File;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class MultiverseWorldManager {
 
@@ -25,9 +27,16 @@ public class MultiverseWorldManager {
     private MVWorldManager mvWorldManager;
     private final Map<String, WorldData> loadedWorlds = new ConcurrentHashMap<>();
     private final Map<String, Integer> worldIdCache = new ConcurrentHashMap<>();
+    private final WorldRuleTable ruleTable = new WorldRuleTable();
+    private final WorldLoadQueue loadQueue;
+
+    // Buscas e carregamentos em andamento, por nome de mundo
+    private final Map<String, CompletableFuture<WorldData>> inFlightFetches = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<World>> inFlightLoads = new ConcurrentHashMap<>();
 
     public MultiverseWorldManager(MinevoxelMundos plugin) {
         this.plugin = plugin;
+        this.loadQueue = new WorldLoadQueue(plugin);
         setupMultiverse();
     }
 
@@ -47,6 +56,9 @@ public class MultiverseWorldManager {
             return;
         }
 
+        // Carregamentos de mundos são distribuídos entre ticks
+        loadQueue.start();
+
         // Registrar mundos existentes do Multiverse
         for (MultiverseWorld mvWorld : mvWorldManager.getMVWorlds()) {
             String worldName = mvWorld.getName();
@@ -65,6 +77,11 @@ public class MultiverseWorldManager {
                     // Registrar no cache
                     loadedWorlds.put(worldName, worldData);
                     worldIdCache.put(worldName, worldData.getId());
+
+                    World world = mvWorld.getCBWorld();
+                    if (world != null) {
+                        ruleTable.register(world, worldData);
+                    }
                 }
             });
         }
@@ -90,6 +107,9 @@ public class MultiverseWorldManager {
                 // Verificar se é um mundo que já foi registrado no Multiverse
                 if (mvWorldManager.isMVWorld(worldName)) continue;
 
+                // Modelos da reserva de mundos não pertencem a nenhum jogador
+                if (WorldTemplatePool.isTemplate(worldName)) continue;
+
                 // Verificar se o nome do mundo segue o padrão esperado (username_randomname)
                 if (worldName.contains("_")) {
                     // Buscar o mundo no banco de dados
@@ -105,6 +125,11 @@ public class MultiverseWorldManager {
     }
 
     public CompletableFuture<World> loadWorld(WorldData worldData) {
+        return loadWorld(worldData, null);
+    }
+
+    // waiting: jogador que aguarda o carregamento e recebe a posição na fila (pode ser null)
+    public CompletableFuture<World> loadWorld(WorldData worldData, Player waiting) {
         CompletableFuture<World> future = new CompletableFuture<>();
 
         if (mvCore == null) {
@@ -147,8 +172,9 @@ public class MultiverseWorldManager {
                 break;
         }
 
-        // Configurar tipo de mundo
+        // Configurar tipo de mundo (mundos vazios usam o gerador do plugin)
         WorldType worldType;
+        String generator = null;
         switch (worldData.getWorldType()) {
             case "FLAT":
                 worldType = WorldType.FLAT;
@@ -156,60 +182,83 @@ public class MultiverseWorldManager {
             case "AMPLIFIED":
                 worldType = WorldType.AMPLIFIED;
                 break;
+            case "VOID":
+                worldType = WorldType.NORMAL;
+                generator = plugin.getName() + ":" + VoidChunkGenerator.ID;
+                break;
             default:
                 worldType = WorldType.NORMAL;
                 break;
         }
+        String worldGenerator = generator;
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            try {
-                boolean success;
+        // O carregamento entra na fila; pedidos repetidos para o mesmo mundo recebem o mesmo futuro
+        return loadQueue.submit(worldData.getWorldName(), () -> {
+            // Outro pedido pode ter carregado o mundo enquanto este aguardava na fila
+            MultiverseWorld loadedWorld = mvWorldManager.getMVWorld(worldData.getWorldName());
+            if (loadedWorld != null) {
+                loadedWorlds.put(worldData.getWorldName(), worldData);
+                worldIdCache.put(worldData.getWorldName(), worldData.getId());
+                worldData.setLoaded(true);
+                return loadedWorld.getCBWorld();
+            }
 
-                if (worldExists) {
-                    // Carregar mundo existente
-                    success = mvWorldManager.loadWorld(worldData.getWorldName());
-                } else {
-                    // Criar novo mundo - usando enum WorldType diretamente
-                    success = mvWorldManager.addWorld(
-                            worldData.getWorldName(),
-                            environment,
-                            worldData.getSeed() != 0 ? String.valueOf(worldData.getSeed()) : null,
-                            worldType,
-                            worldData.isGenerateStructures(),
-                            null // generator
-                    );
-                }
+            boolean success;
 
-                if (success) {
-                    MultiverseWorld mvWorld = mvWorldManager.getMVWorld(worldData.getWorldName());
-                    World world = mvWorld.getCBWorld();
+            // Usar um mundo pré-gerado da reserva, se houver um compatível
+            WorldTemplatePool templatePool = plugin.getWorldTemplatePool();
+            if (!worldExists && templatePool != null) {
+                templatePool.claim(worldData);
+            }
 
-                    // Configurar o mundo
-                    configureWorld(world, worldData);
+            if (worldExists) {
+                // Carregar mundo existente
+                success = mvWorldManager.loadWorld(worldData.getWorldName());
+            } else {
+                // Criar novo mundo - usando enum WorldType diretamente
+                // (com um modelo da reserva, a pasta já existe e o Multiverse apenas a carrega)
+                success = mvWorldManager.addWorld(
+                        worldData.getWorldName(),
+                        environment,
+                        worldData.getSeed() != 0 ? String.valueOf(worldData.getSeed()) : null,
+                        worldType,
+                        worldData.isGenerateStructures(),
+                        worldGenerator
+                );
+            }
 
-                    // Registrar no cache
-                    loadedWorlds.put(worldData.getWorldName(), worldData);
-                    worldIdCache.put(worldData.getWorldName(), worldData.getId());
-                    worldData.setLoaded(true);
+            if (!success) {
+                throw new Exception("Falha ao carregar mundo via Multiverse!");
+            }
 
-                    // Atualizar data de acesso
-                    updateLastAccessedDate(worldData);
+            MultiverseWorld mvWorld = mvWorldManager.getMVWorld(worldData.getWorldName());
+            World world = mvWorld.getCBWorld();
 
-                    future.complete(world);
-                } else {
-                    future.completeExceptionally(new Exception("Falha ao carregar mundo via Multiverse!"));
-                }
-            } catch (Exception e) {
-                plugin.getLogger().severe("Erro ao criar/carregar mundo " + worldData.getWorldName() + ": " + e.getMessage());
-                e.printStackTrace();
-                future.completeExceptionally(e);
+            // O Multiverse carrega mundos antes de o plugin (e seu gerador) ser ativado; mundos vazios
+            // são sempre carregados pela fila do plugin
+            if (worldGenerator != null) {
+                mvWorld.setAutoLoad(false);
             }
-        });
 
-        return future;
+            // Configurar o mundo
+            configureWorld(world, worldData);
+
+            // Registrar no cache
+            loadedWorlds.put(worldData.getWorldName(), worldData);
+            worldIdCache.put(worldData.getWorldName(), worldData.getId());
+            worldData.setLoaded(true);
+
+            // Atualizar data de acesso
+            updateLastAccessedDate(worldData);
+
+            return world;
+        }, waiting);
     }
 
     public void configureWorld(World world, WorldData worldData) {
+        // Registrar as regras do mundo para os eventos de física e líquidos
+        ruleTable.register(world, worldData);
+
         if (mvCore == null) return;
 
         // Obter o mundo do Multiverse
@@ -270,6 +319,8 @@ public class MultiverseWorldManager {
 
         // Atualizar cache
         if (success) {
+            ruleTable.unregister(worldName);
+
             WorldData worldData = loadedWorlds.remove(worldName);
             if (worldData != null) {
                 worldData.setLoaded(false);
@@ -334,6 +385,10 @@ public class MultiverseWorldManager {
     }
 
     public CompletableFuture<World> getOrLoadWorld(String worldName) {
+        return getOrLoadWorld(worldName, null);
+    }
+
+    public CompletableFuture<World> getOrLoadWorld(String worldName, Player waiting) {
         if (mvCore == null) {
             CompletableFuture<World> future = new CompletableFuture<>();
             future.completeExceptionally(new Exception("Multiverse-Core não está disponível!"));
@@ -348,39 +403,21 @@ public class MultiverseWorldManager {
             }
         }
 
-        // Verificar se temos os dados do mundo no cache
-        WorldData worldData = loadedWorlds.get(worldName);
-        if (worldData != null) {
-            return loadWorld(worldData);
-        }
-
-        // Verificar se temos o ID do mundo no cache
-        Integer worldId = worldIdCache.get(worldName);
-        if (worldId != null) {
-            // Buscar dados do mundo no banco de dados
-            return plugin.getDatabaseManager().getWorld(worldId).thenCompose(data -> {
-                if (data != null) {
-                    return loadWorld(data);
-                } else {
-                    CompletableFuture<World> future = new CompletableFuture<>();
-                    future.completeExceptionally(new Exception("Mundo não encontrado: " + worldName));
-                    return future;
-                }
-            });
-        }
-
-        // Buscar mundo pelo nome no banco de dados
-        return plugin.getDatabaseManager().getWorldByName(worldName).thenCompose(data -> {
-            if (data != null) {
-                return loadWorld(data);
-            } else {
-                CompletableFuture<World> future = new CompletableFuture<>();
-                future.completeExceptionally(new Exception("Mundo não encontrado: " + worldName));
-                return future;
-            }
-        });
+        // Pedidos simultâneos para o mesmo mundo compartilham uma única busca e um único carregamento
+        return singleFlight(inFlightLoads, worldName, () ->
+                fetchWorldData(worldName).thenCompose(data -> {
+                    if (data != null) {
+                        return loadWorld(data, waiting);
+                    } else {
+                        CompletableFuture<World> future = new CompletableFuture<>();
+                        future.completeExceptionally(new Exception("Mundo não encontrado: " + worldName));
+                        return future;
+                    }
+                }));
     }
 
+    // Aplica as configurações ao mundo carregado e aos mapas locais; não grava nada no banco.
+    // Quem alterou os dados grava antes (updateWorld ou queueWorldUpdate). Deve rodar na thread principal
     public void updateWorldSettings(WorldData worldData) {
         if (mvCore == null) return;
 
@@ -393,9 +430,6 @@ public class MultiverseWorldManager {
             }
         }
 
-        // Atualizar no banco de dados
-        plugin.getDatabaseManager().updateWorld(worldData);
-
         // Atualizar no cache local
         loadedWorlds.put(worldData.getWorldName(), worldData);
         worldIdCache.put(worldData.getWorldName(), worldData.getId());
@@ -417,22 +451,52 @@ public class MultiverseWorldManager {
             return CompletableFuture.completedFuture(cachedData);
         }
 
-        // Verificar se temos o ID no cache
-        Integer worldId = worldIdCache.get(worldName);
-        if (worldId != null) {
-            return plugin.getDatabaseManager().getWorld(worldId);
+        // Uma única consulta ao banco por mundo, mesmo com vários pedidos ao mesmo tempo
+        return singleFlight(inFlightFetches, worldName, () -> {
+            // Verificar se temos o ID no cache
+            Integer worldId = worldIdCache.get(worldName);
+            if (worldId != null) {
+                return plugin.getDatabaseManager().getWorld(worldId);
+            }
+
+            // Buscar pelo nome no banco de dados
+            return plugin.getDatabaseManager().getWorldByName(worldName);
+        });
+    }
+
+    // Se já existe uma operação em andamento para a chave, devolve o mesmo futuro; senão inicia uma nova.
+    // A entrada é removida quando a operação termina, então pedidos posteriores iniciam uma nova operação.
+    private <T> CompletableFuture<T> singleFlight(Map<String, CompletableFuture<T>> inFlight, String key,
+                                                  Supplier<CompletableFuture<T>> operation) {
+        CompletableFuture<T> shared = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<T> result;
+        try {
+            result = operation.get();
+        } catch (Exception e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+            return shared;
         }
 
-        // Buscar pelo nome no banco de dados
-        return plugin.getDatabaseManager().getWorldByName(worldName);
+        result.whenComplete((value, ex) -> {
+            inFlight.remove(key, shared);
+            if (ex != null) {
+                shared.completeExceptionally(ex);
+            } else {
+                shared.complete(value);
+            }
+        });
+        return shared;
     }
 
     private void updateLastAccessedDate(WorldData worldData) {
-        worldData.setLastAccessed(new Date());
-        worldData.setModified(true);
-
-        // Atualizar no banco de dados (assíncrono)
-        plugin.getDatabaseManager().updateWorld(worldData);
+        // Registrar acesso (apenas last_accessed, gravado em lote)
+        plugin.getDatabaseManager().touchWorld(worldData);
     }
 
     public void saveAllWorlds() {
@@ -447,15 +511,22 @@ public class MultiverseWorldManager {
             }
         }
 
-        // Atualizar dados de mundos modificados no banco de dados
+        // Enfileirar mundos modificados; a fila grava tudo em um único lote
         for (WorldData worldData : loadedWorlds.values()) {
             if (worldData.isModified()) {
-                plugin.getDatabaseManager().updateWorld(worldData);
-                worldData.setModified(false);
+                plugin.getDatabaseManager().queueWorldUpdate(worldData);
             }
         }
     }
 
+    public WorldLoadQueue getLoadQueue() {
+        return loadQueue;
+    }
+
+    public WorldRuleTable getRuleTable() {
+        return ruleTable;
+    }
+
     public Collection<WorldData> getLoadedWorldsData() {
         return Collections.unmodifiableCollection(loadedWorlds.values());
     }
@@ -0,0 +1,173 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import br.com.minevoxel.mundos.models.WorldData;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+// Limite de atividade de redstone por mundo. As atualizações são contadas em janelas de ticks;
+// um mundo que passa do orçamento tem a redstone suspensa até o fim da janela, e um mundo que
+// passa do orçamento em várias janelas seguidas fica congelado por um tempo.
+// Todos os métodos rodam na thread principal.
+public class RedstoneLimiter {
+
+    private static class RedstoneCounter {
+        private final WorldData worldData;
+        private int updates;
+        private int overBudgetWindows;
+        private long frozenUntil;
+        private long throttled;
+        private int freezes;
+
+        private RedstoneCounter(WorldData worldData) {
+            this.worldData = worldData;
+        }
+    }
+
+    private final MinevoxelMundos plugin;
+    private final WorldRuleTable ruleTable;
+    private final Map<UUID, RedstoneCounter> counters = new HashMap<>();
+
+    private int maxUpdates;
+    private int freezeAfter;
+    private long freezeMillis;
+    private BukkitTask windowTask;
+
+    // Métricas
+    private long totalThrottled;
+    private long totalFreezes;
+
+    public RedstoneLimiter(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.ruleTable = plugin.getWorldManager().getRuleTable();
+    }
+
+    public void start() {
+        Config config = plugin.getConfigManager();
+        maxUpdates = Math.max(1, config.getRedstoneMaxUpdates());
+        freezeAfter = config.getRedstoneFreezeAfter();
+        freezeMillis = config.getRedstoneFreezeSeconds() * 1000L;
+
+        long windowTicks = Math.max(1, config.getRedstoneWindowTicks());
+        windowTask = Bukkit.getScheduler().runTaskTimer(plugin, this::endWindow, windowTicks, windowTicks);
+    }
+
+    public void stop() {
+        if (windowTask != null) {
+            windowTask.cancel();
+            windowTask = null;
+        }
+
+        counters.clear();
+    }
+
+    // Retorna falso se a atualização de redstone deve ser bloqueada
+    public boolean allowUpdate(World world) {
+        WorldData worldData = ruleTable.getWorldData(world);
+        if (worldData == null) {
+            return true;
+        }
+
+        // Redstone desativada nas configurações do mundo
+        if (!worldData.isRedstone()) {
+            return false;
+        }
+
+        RedstoneCounter counter = counters.get(world.getUID());
+        if (counter == null) {
+            counter = new RedstoneCounter(worldData);
+            counters.put(world.getUID(), counter);
+        }
+
+        if (counter.frozenUntil != 0) {
+            if (System.currentTimeMillis() < counter.frozenUntil) {
+                counter.throttled++;
+                totalThrottled++;
+                return false;
+            }
+
+            counter.frozenUntil = 0;
+            plugin.getLogger().info("Redstone liberada no mundo " + worldData.getWorldName());
+        }
+
+        if (++counter.updates > maxUpdates) {
+            counter.throttled++;
+            totalThrottled++;
+            return false;
+        }
+
+        return true;
+    }
+
+    public void forget(World world) {
+        counters.remove(world.getUID());
+    }
+
+    private void endWindow() {
+        Iterator<RedstoneCounter> iterator = counters.values().iterator();
+
+        while (iterator.hasNext()) {
+            RedstoneCounter counter = iterator.next();
+
+            if (counter.updates > maxUpdates) {
+                counter.overBudgetWindows++;
+
+                if (freezeAfter > 0 && counter.overBudgetWindows >= freezeAfter && counter.frozenUntil == 0) {
+                    freeze(counter);
+                }
+            } else if (counter.updates == 0 && counter.frozenUntil == 0) {
+                // Mundo sem atividade: não precisa manter o contador
+                iterator.remove();
+                continue;
+            } else {
+                counter.overBudgetWindows = 0;
+            }
+
+            counter.updates = 0;
+        }
+    }
+
+    private void freeze(RedstoneCounter counter) {
+        counter.frozenUntil = System.currentTimeMillis() + freezeMillis;
+        counter.overBudgetWindows = 0;
+        counter.freezes++;
+        totalFreezes++;
+
+        WorldData worldData = counter.worldData;
+        plugin.getLogger().warning("Redstone congelada por " + (freezeMillis / 1000) + "s no mundo "
+                + worldData.getWorldName() + " (dono: " + worldData.getOwnerName() + ") por excesso de atualizações");
+    }
+
+    public boolean isFrozen(World world) {
+        RedstoneCounter counter = counters.get(world.getUID());
+        return counter != null && counter.frozenUntil > System.currentTimeMillis();
+    }
+
+    public long getTotalThrottled() {
+        return totalThrottled;
+    }
+
+    public long getTotalFreezes() {
+        return totalFreezes;
+    }
+
+    public List<String> getStatus() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Redstone: bloqueadas=" + totalThrottled + ", congelamentos=" + totalFreezes + ", limite=" + maxUpdates + "/janela");
+
+        long now = System.currentTimeMillis();
+        for (RedstoneCounter counter : counters.values()) {
+            if (counter.throttled == 0 && counter.frozenUntil == 0) continue;
+
+            String state = counter.frozenUntil > now ? " (congelado por " + ((counter.frozenUntil - now) / 1000) + "s)" : "";
+            lines.add(counter.worldData.getWorldName() + ": bloqueadas=" + counter.throttled
+                    + ", congelamentos=" + counter.freezes + state);
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,212 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+// Procura um local seguro para o jogador (chão sólido e dois blocos livres) fora da thread principal,
+// usando snapshots dos chunks e o mapa de alturas. Os locais verificados ficam em cache por mundo
+// e são descartados quando um bloco próximo muda (ver SafeSpawnEvents).
+public class SafeLocationFinder {
+
+    // Raio horizontal e altura da busca ao redor do ponto pedido
+    private static final int SEARCH_RADIUS = 5;
+    private static final int SEARCH_HEIGHT = 10;
+
+    // Distância em blocos de uma mudança que invalida um local em cache
+    private static final int INVALIDATION_RADIUS = 2;
+
+    private static class SafeSpot {
+        private final int requestX, requestY, requestZ;
+        private final Location location;
+
+        private SafeSpot(int requestX, int requestY, int requestZ, Location location) {
+            this.requestX = requestX;
+            this.requestY = requestY;
+            this.requestZ = requestZ;
+            this.location = location;
+        }
+
+        private boolean isNear(int x, int y, int z) {
+            return Math.abs(location.getBlockX() - x) <= INVALIDATION_RADIUS &&
+                    Math.abs(location.getBlockY() - y) <= INVALIDATION_RADIUS + 1 &&
+                    Math.abs(location.getBlockZ() - z) <= INVALIDATION_RADIUS;
+        }
+    }
+
+    private final MinevoxelMundos plugin;
+
+    // Cache por mundo; acessado apenas na thread principal
+    private final Map<UUID, List<SafeSpot>> cache = new HashMap<>();
+
+    // Métricas
+    private long cacheHits;
+    private long searches;
+
+    public SafeLocationFinder(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+    }
+
+    // Deve ser chamado na thread principal; o futuro completa na thread principal
+    public CompletableFuture<Location> findSafeLocation(Location location) {
+        World world = location.getWorld();
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        Location cached = getCached(world, x, y, z);
+        if (cached != null) {
+            cacheHits++;
+            return CompletableFuture.completedFuture(cached.clone());
+        }
+
+        searches++;
+
+        // Snapshots dos chunks que cobrem a área de busca (apenas os já carregados)
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        for (int chunkX = (x - SEARCH_RADIUS) >> 4; chunkX <= (x + SEARCH_RADIUS) >> 4; chunkX++) {
+            for (int chunkZ = (z - SEARCH_RADIUS) >> 4; chunkZ <= (z + SEARCH_RADIUS) >> 4; chunkZ++) {
+                if (world.isChunkLoaded(chunkX, chunkZ)) {
+                    snapshots.put(chunkKey(chunkX, chunkZ), world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false));
+                }
+            }
+        }
+
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        CompletableFuture<Location> future = new CompletableFuture<>();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int[] spot;
+            try {
+                spot = search(snapshots, x, y, z, minY, maxY);
+            } catch (RuntimeException e) {
+                // Completar com erro na thread principal, para quem espera poder liberar seus recursos
+                Bukkit.getScheduler().runTask(plugin, () -> future.completeExceptionally(e));
+                return;
+            }
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Location result;
+                if (spot != null) {
+                    // Ajustar para o centro do bloco
+                    result = new Location(world, spot[0] + 0.5, spot[1], spot[2] + 0.5, location.getYaw(), location.getPitch());
+                    remember(world, x, y, z, result);
+                } else {
+                    // Se não encontrou um local seguro, usar o topo do mundo
+                    result = world.getHighestBlockAt(x, z).getLocation().add(0.5, 1, 0.5);
+                }
+                future.complete(result);
+            });
+        });
+
+        return future;
+    }
+
+    // Executado fora da thread principal: usa apenas os snapshots
+    private static int[] search(Map<Long, ChunkSnapshot> snapshots, int x, int y, int z, int minY, int maxY) {
+        // Verificar se a localização pedida é segura
+        if (isSafe(snapshots, x, y, z, minY, maxY)) {
+            return new int[]{x, y, z};
+        }
+
+        // Colunas em ordem de distância do ponto pedido
+        for (int r = 0; r <= SEARCH_RADIUS; r++) {
+            for (int dx = -r; dx <= r; dx++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != r) continue;
+
+                    int columnX = x + dx;
+                    int columnZ = z + dz;
+                    ChunkSnapshot snapshot = snapshots.get(chunkKey(columnX >> 4, columnZ >> 4));
+                    if (snapshot == null) continue;
+
+                    // Primeiro perto da altura pedida, depois em cima do bloco mais alto da coluna
+                    for (int offsetY = 0; offsetY < SEARCH_HEIGHT; offsetY++) {
+                        if (isSafe(snapshots, columnX, y + offsetY, columnZ, minY, maxY)) {
+                            return new int[]{columnX, y + offsetY, columnZ};
+                        }
+                    }
+
+                    int top = snapshot.getHighestBlockYAt(columnX & 15, columnZ & 15) + 1;
+                    if (isSafe(snapshots, columnX, top, columnZ, minY, maxY)) {
+                        return new int[]{columnX, top, columnZ};
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isSafe(Map<Long, ChunkSnapshot> snapshots, int x, int y, int z, int minY, int maxY) {
+        if (y - 1 < minY || y + 1 >= maxY) {
+            return false;
+        }
+
+        ChunkSnapshot snapshot = snapshots.get(chunkKey(x >> 4, z >> 4));
+        if (snapshot == null) {
+            return false;
+        }
+
+        // Verificar se há dois blocos de ar para o jogador ficar
+        Material feet = snapshot.getBlockType(x & 15, y, z & 15);
+        Material head = snapshot.getBlockType(x & 15, y + 1, z & 15);
+        Material ground = snapshot.getBlockType(x & 15, y - 1, z & 15);
+
+        return feet.isAir() && head.isAir() && ground.isSolid();
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private Location getCached(World world, int x, int y, int z) {
+        List<SafeSpot> spots = cache.get(world.getUID());
+        if (spots == null) {
+            return null;
+        }
+
+        for (SafeSpot spot : spots) {
+            if (spot.requestX == x && spot.requestY == y && spot.requestZ == z) {
+                return spot.location;
+            }
+        }
+        return null;
+    }
+
+    private void remember(World world, int x, int y, int z, Location location) {
+        cache.computeIfAbsent(world.getUID(), k -> new ArrayList<>()).add(new SafeSpot(x, y, z, location.clone()));
+    }
+
+    // Um bloco mudou: descartar locais em cache próximos dele
+    public void invalidate(World world, int x, int y, int z) {
+        List<SafeSpot> spots = cache.get(world.getUID());
+        if (spots == null) {
+            return;
+        }
+
+        spots.removeIf(spot -> spot.isNear(x, y, z));
+        if (spots.isEmpty()) {
+            cache.remove(world.getUID());
+        }
+    }
+
+    public void invalidateWorld(World world) {
+        cache.remove(world.getUID());
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getSearchCount() {
+        return searches;
+    }
+}
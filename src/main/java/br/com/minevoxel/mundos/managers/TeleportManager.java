@@ -9,6 +9,7 @@ import org.bukkit.event.player.PlayerTeleportEvent;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class TeleportManager {
 
@@ -17,11 +18,22 @@ public class TeleportManager {
     // Cache de últimas localizações dos jogadores em cada mundo
     private final Map<String, Map<UUID, Location>> lastLocations = new HashMap<>();
 
+    // Carrega os chunks do destino antes de teleportar
+    private final ChunkPreloader chunkPreloader;
+
+    // Busca de locais seguros fora da thread principal, com cache por mundo
+    private final SafeLocationFinder safeLocationFinder;
+
     public TeleportManager(MinevoxelMundos plugin) {
         this.plugin = plugin;
+        this.chunkPreloader = new ChunkPreloader(plugin);
+        this.safeLocationFinder = new SafeLocationFinder(plugin);
     }
 
-    public void teleportToWorld(Player player, String worldName) {
+    // O futuro completa com true quando o jogador chega ao mundo
+    public CompletableFuture<Boolean> teleportToWorld(Player player, String worldName) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+
         // Verificar se estamos no servidor de mundos
         if (!plugin.isWorldsServer()) {
             plugin.getLogger().warning("Tentativa de teleporte em servidor que não é de mundos");
@@ -30,30 +42,35 @@ public class TeleportManager {
             if (plugin.isLobbyServer()) {
                 plugin.getServerManager().connectToWorldsServer(player, worldName);
             }
-            return;
+            result.complete(false);
+            return result;
         }
 
         // Verificar permissões do jogador
         plugin.getWorldManager().fetchWorldData(worldName).thenAccept(worldData -> {
             if (worldData == null) {
                 player.sendMessage("§cMundo não encontrado: " + worldName);
+                result.complete(false);
                 return;
             }
 
             // Verificar se o jogador tem permissão para acessar o mundo
             if (!worldData.canPlayerVisit(player.getUniqueId())) {
                 player.sendMessage("§cVocê não tem permissão para visitar este mundo.");
+                result.complete(false);
                 return;
             }
 
             // Prosseguir com o teleporte
             Bukkit.getScheduler().runTask(plugin, () -> {
-                doTeleport(player, worldName, worldData);
+                doTeleport(player, worldName, worldData, result);
             });
         });
+
+        return result;
     }
 
-    private void doTeleport(Player player, String worldName, WorldData worldData) {
+    private void doTeleport(Player player, String worldName, WorldData worldData, CompletableFuture<Boolean> result) {
         // Obter mundo atual do jogador
         World currentWorld = player.getWorld();
 
@@ -66,45 +83,84 @@ public class TeleportManager {
             // Mundo não está carregado, precisamos carregá-lo
             player.sendMessage("§aCarregando mundo " + worldData.getDisplayName() + "...");
 
-            plugin.getWorldManager().getOrLoadWorld(worldName).thenAccept(world -> {
+            plugin.getWorldManager().getOrLoadWorld(worldName, player).thenAccept(world -> {
                 if (world != null) {
                     // Mundo carregado com sucesso, continuar teleporte
                     Bukkit.getScheduler().runTask(plugin, () -> {
-                        teleportPlayerToWorld(player, world, worldData);
+                        teleportPlayerToWorld(player, world, worldData, result);
                     });
                 } else {
                     player.sendMessage("§cErro ao carregar o mundo " + worldData.getDisplayName());
+                    result.complete(false);
                 }
             }).exceptionally(ex -> {
                 player.sendMessage("§cErro ao carregar o mundo: " + ex.getMessage());
                 ex.printStackTrace();
+                result.complete(false);
                 return null;
             });
 
         } else {
             // Mundo já está carregado, teleportar diretamente
-            teleportPlayerToWorld(player, targetWorld, worldData);
+            teleportPlayerToWorld(player, targetWorld, worldData, result);
         }
     }
 
-    private void teleportPlayerToWorld(Player player, World world, WorldData worldData) {
-        // Definir o modo de jogo do jogador de acordo com a configuração do mundo
-        GameMode gameMode = worldData.getGameMode();
-        player.setGameMode(gameMode);
-
+    private void teleportPlayerToWorld(Player player, World world, WorldData worldData, CompletableFuture<Boolean> result) {
         // Buscar a última localização do jogador neste mundo, se existir
-        Location teleportLocation = getPlayerLastLocation(player, world.getName());
+        Location lastLocation = getPlayerLastLocation(player, world.getName());
+
+        // Não há localização salva, usar o spawn do mundo
+        Location destination = lastLocation != null ? lastLocation : world.getSpawnLocation();
+
+        // Carregar os chunks ao redor do destino antes de mover o jogador
+        int radius = plugin.getConfigManager().getTeleportPreloadRadius();
+        chunkPreloader.preload(destination, radius).whenComplete((tickets, preloadError) -> {
+            if (preloadError != null) {
+                plugin.getLogger().severe("Erro ao pré-carregar chunks do mundo " + world.getName() + ": " + preloadError.getMessage());
+                preloadError.printStackTrace();
+                result.complete(false);
+                return;
+            }
+
+            if (!player.isOnline()) {
+                chunkPreloader.release(world, tickets);
+                result.complete(false);
+                return;
+            }
 
-        if (teleportLocation == null) {
-            // Não há localização salva, usar o spawn do mundo
-            teleportLocation = world.getSpawnLocation();
+            // Última localização: usar direto; spawn: verificar se é seguro (busca fora da thread principal)
+            CompletableFuture<Location> location = lastLocation != null
+                    ? CompletableFuture.completedFuture(lastLocation)
+                    : safeLocationFinder.findSafeLocation(destination);
 
-            // Verificar se o spawn é seguro
-            teleportLocation = findSafeLocation(teleportLocation);
-        }
+            location.thenAccept(teleportLocation -> {
+                if (player.isOnline()) {
+                    completeTeleport(player, teleportLocation, worldData, result);
+                }
+            }).whenComplete((ignored, ex) -> {
+                // Sempre devolver os tickets e completar o futuro, mesmo se a busca ou o teleporte falharem
+                chunkPreloader.release(world, tickets);
+
+                if (ex != null) {
+                    plugin.getLogger().severe("Erro ao teleportar " + player.getName() + " para o mundo " + world.getName() + ": " + ex.getMessage());
+                    ex.printStackTrace();
+                }
+                result.complete(false);
+            });
+        });
+    }
+
+    private void completeTeleport(Player player, Location teleportLocation, WorldData worldData, CompletableFuture<Boolean> result) {
+        // Definir o modo de jogo do jogador de acordo com a configuração do mundo
+        GameMode gameMode = worldData.getGameMode();
+        player.setGameMode(gameMode);
 
         // Teleportar o jogador
-        player.teleport(teleportLocation, PlayerTeleportEvent.TeleportCause.PLUGIN);
+        if (!player.teleport(teleportLocation, PlayerTeleportEvent.TeleportCause.PLUGIN)) {
+            result.complete(false);
+            return;
+        }
 
         // Mensagem de teleporte
         player.sendMessage("§aTeleportado para o mundo §b" + worldData.getDisplayName());
@@ -114,6 +170,8 @@ public class TeleportManager {
 
         // Atualizar data de último acesso ao mundo
         updateWorldLastAccess(worldData);
+
+        result.complete(true);
     }
 
     public void savePlayerLocation(Player player, String worldName) {
@@ -137,56 +195,6 @@ public class TeleportManager {
         return null;
     }
 
-    private Location findSafeLocation(Location location) {
-        World world = location.getWorld();
-
-        // Verificar se a localização é segura
-        if (isSafeLocation(location)) {
-            return location;
-        }
-
-        // Encontrar um bloco seguro próximo
-        int x = location.getBlockX();
-        int y = location.getBlockY();
-        int z = location.getBlockZ();
-
-        // Procurar em um raio de 5 blocos
-        for (int offsetY = 0; offsetY < 10; offsetY++) {
-            for (int offsetX = -5; offsetX <= 5; offsetX++) {
-                for (int offsetZ = -5; offsetZ <= 5; offsetZ++) {
-                    Location checkLocation = new Location(world, x + offsetX, y + offsetY, z + offsetZ);
-                    if (isSafeLocation(checkLocation)) {
-                        // Ajustar para o centro do bloco
-                        checkLocation.add(0.5, 0, 0.5);
-                        return checkLocation;
-                    }
-                }
-            }
-        }
-
-        // Se não encontrou um local seguro, tentar o topo do mundo
-        Location highLocation = world.getHighestBlockAt(x, z).getLocation();
-        highLocation.add(0, 1, 0); // Ficar em cima do bloco
-
-        return highLocation;
-    }
-
-    private boolean isSafeLocation(Location location) {
-        World world = location.getWorld();
-        int x = location.getBlockX();
-        int y = location.getBlockY();
-        int z = location.getBlockZ();
-
-        // Verificar se há dois blocos de ar para o jogador ficar
-        org.bukkit.block.Block feetBlock = world.getBlockAt(x, y, z);
-        org.bukkit.block.Block headBlock = world.getBlockAt(x, y + 1, z);
-        org.bukkit.block.Block groundBlock = world.getBlockAt(x, y - 1, z);
-
-        return feetBlock.getType() == Material.AIR &&
-                headBlock.getType() == Material.AIR &&
-                groundBlock.getType().isSolid();
-    }
-
     private void applyTeleportEffects(Player player) {
         // Efeitos visuais e sonoros para o teleporte
         player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
@@ -196,11 +204,8 @@ public class TeleportManager {
     }
 
     private void updateWorldLastAccess(WorldData worldData) {
-        worldData.setLastAccessed(new java.util.Date());
-        worldData.setModified(true);
-
-        // Atualizar no banco de dados (assíncrono)
-        plugin.getDatabaseManager().updateWorld(worldData);
+        // Registrar acesso (apenas last_accessed, gravado em lote)
+        plugin.getDatabaseManager().touchWorld(worldData);
     }
 
     // Método para teleportar o jogador para o spawn do mundo
@@ -223,6 +228,14 @@ public class TeleportManager {
         }
     }
 
+    public SafeLocationFinder getSafeLocationFinder() {
+        return safeLocationFinder;
+    }
+
+    public ChunkPreloader getChunkPreloader() {
+        return chunkPreloader;
+    }
+
     // Método para salvar localizações no despejo do servidor
     public void saveAllLocations() {
         // Este método seria implementado para salvar as localizações em um arquivo
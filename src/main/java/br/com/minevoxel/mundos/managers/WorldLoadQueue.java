@@ -0,0 +1,182 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+// Fila de carregamento de mundos: carregar um mundo trava a thread principal, então no máximo um
+// mundo é carregado a cada intervalo de ticks. Pedidos repetidos para o mesmo mundo compartilham
+// o mesmo futuro, e os jogadores que aguardam recebem a posição na fila.
+public class WorldLoadQueue {
+
+    private static class PendingLoad {
+        private final String worldName;
+        private final Callable<World> loader;
+        private final CompletableFuture<World> future = new CompletableFuture<>();
+        private final Set<UUID> waiting = new LinkedHashSet<>();
+
+        private PendingLoad(String worldName, Callable<World> loader) {
+            this.worldName = worldName;
+            this.loader = loader;
+        }
+    }
+
+    private final MinevoxelMundos plugin;
+    private final LinkedHashMap<String, PendingLoad> queue = new LinkedHashMap<>();
+
+    private int intervalTicks;
+    private long slowLoadMillis;
+    private int ticksSinceLoad;
+    private BukkitTask task;
+
+    // Métricas
+    private long loads;
+    private long deduplicated;
+    private long totalLoadMillis;
+
+    public WorldLoadQueue(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        intervalTicks = Math.max(1, plugin.getConfigManager().getWorldLoadInterval());
+        slowLoadMillis = plugin.getConfigManager().getWorldLoadSlowThreshold();
+        ticksSinceLoad = intervalTicks;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        for (PendingLoad load : queue.values()) {
+            load.future.completeExceptionally(new IllegalStateException("Plugin desativado"));
+        }
+        queue.clear();
+    }
+
+    // Pode ser chamado de qualquer thread; o carregamento roda na thread principal.
+    // waiting (opcional) é o jogador que aguarda o mundo e recebe a posição na fila
+    public CompletableFuture<World> submit(String worldName, Callable<World> loader, Player waiting) {
+        PendingLoad load;
+        int position;
+
+        synchronized (this) {
+            load = queue.get(worldName);
+            if (load != null) {
+                deduplicated++;
+            } else {
+                load = new PendingLoad(worldName, loader);
+                queue.put(worldName, load);
+            }
+
+            if (waiting != null) {
+                load.waiting.add(waiting.getUniqueId());
+            }
+            position = getPosition(worldName);
+        }
+
+        // Só avisar quando houver outros mundos na frente
+        if (waiting != null && position > 1) {
+            waiting.sendMessage("§eSeu mundo está na posição §f" + position + "§e da fila de carregamento...");
+        }
+
+        return load.future;
+    }
+
+    public synchronized int getPosition(String worldName) {
+        int position = 1;
+        for (String queued : queue.keySet()) {
+            if (queued.equals(worldName)) {
+                return position;
+            }
+            position++;
+        }
+        return 0;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    private void tick() {
+        if (++ticksSinceLoad < intervalTicks) {
+            return;
+        }
+
+        PendingLoad load;
+        synchronized (this) {
+            Iterator<PendingLoad> iterator = queue.values().iterator();
+            if (!iterator.hasNext()) {
+                return;
+            }
+
+            load = iterator.next();
+            iterator.remove();
+        }
+
+        ticksSinceLoad = 0;
+        long start = System.currentTimeMillis();
+
+        try {
+            World world = load.loader.call();
+            load.future.complete(world);
+        } catch (Exception e) {
+            plugin.getLogger().severe("Erro ao criar/carregar mundo " + load.worldName + ": " + e.getMessage());
+            e.printStackTrace();
+            load.future.completeExceptionally(e);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        loads++;
+        totalLoadMillis += elapsed;
+
+        if (slowLoadMillis > 0 && elapsed >= slowLoadMillis) {
+            plugin.getLogger().warning("Carregamento lento do mundo " + load.worldName + ": " + elapsed + "ms");
+        }
+
+        notifyPositions();
+    }
+
+    // Informar aos jogadores que ainda aguardam a nova posição na fila
+    private void notifyPositions() {
+        Map<UUID, Integer> positions = new HashMap<>();
+
+        synchronized (this) {
+            int position = 1;
+            for (PendingLoad load : queue.values()) {
+                for (UUID playerId : load.waiting) {
+                    positions.put(playerId, position);
+                }
+                position++;
+            }
+        }
+
+        for (Map.Entry<UUID, Integer> entry : positions.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) {
+                player.sendMessage("§eSeu mundo está na posição §f" + entry.getValue() + "§e da fila de carregamento...");
+            }
+        }
+    }
+
+    public long getLoadCount() {
+        return loads;
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated;
+    }
+
+    public long getAverageLoadMillis() {
+        return loads == 0 ? 0 : totalLoadMillis / loads;
+    }
+}
@@ -2,6 +2,7 @@ package br.com.minevoxel.mundos.managers;
 
 import br.com.minevoxel.mundos.MinevoxelMundos;
 import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.utils.VoidChunkGenerator;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.event.world.WorldInitEvent;
@@ -112,6 +113,10 @@ public class WorldManager {
             case "AMPLIFIED":
                 creator.type(WorldType.AMPLIFIED);
                 break;
+            case "VOID":
+                creator.type(WorldType.NORMAL);
+                creator.generator(new VoidChunkGenerator());
+                break;
             default:
                 creator.type(WorldType.NORMAL);
         }
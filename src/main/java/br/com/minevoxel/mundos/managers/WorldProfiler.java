@@ -0,0 +1,300 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import br.com.minevoxel.mundos.models.WorldData;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+// Perfil de carga por mundo: entidades, chunks carregados, tile entities e tempo gasto pelos
+// eventos do plugin em cada mundo. O tempo de eventos é acumulado por janela; a contagem de
+// entidades/chunks só é feita ao gerar um snapshot (comando ou log periódico).
+// Tile entities são contadas aos poucos, alguns chunks por tick, pois Chunk#getTileEntities cria um
+// BlockState para cada uma; o snapshot usa a última contagem completa de cada mundo.
+// Os eventos de física e de líquidos não são medidos: são chamados a cada atualização de bloco.
+// Todos os métodos rodam na thread principal.
+public class WorldProfiler {
+
+    public enum SortOrder {
+        TEMPO,
+        ENTIDADES,
+        CHUNKS,
+        BLOCOS
+    }
+
+    public static class WorldProfile {
+        private final String worldName;
+        private final WorldData worldData;
+        private final int entities;
+        private final int loadedChunks;
+        private final int tileEntities;
+        private final int players;
+        private final long eventNanos;
+        private final long eventCalls;
+
+        private WorldProfile(String worldName, WorldData worldData, int entities, int loadedChunks,
+                             int tileEntities, int players, long eventNanos, long eventCalls) {
+            this.worldName = worldName;
+            this.worldData = worldData;
+            this.entities = entities;
+            this.loadedChunks = loadedChunks;
+            this.tileEntities = tileEntities;
+            this.players = players;
+            this.eventNanos = eventNanos;
+            this.eventCalls = eventCalls;
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public WorldData getWorldData() {
+            return worldData;
+        }
+
+        public int getEntities() {
+            return entities;
+        }
+
+        public int getLoadedChunks() {
+            return loadedChunks;
+        }
+
+        public int getTileEntities() {
+            return tileEntities;
+        }
+
+        public int getPlayers() {
+            return players;
+        }
+
+        public long getEventNanos() {
+            return eventNanos;
+        }
+
+        public long getEventCalls() {
+            return eventCalls;
+        }
+    }
+
+    // Tempo de eventos acumulado na janela atual
+    private static class EventTime {
+        private long nanos;
+        private long calls;
+    }
+
+    private final MinevoxelMundos plugin;
+    private final WorldRuleTable ruleTable;
+    private final Map<UUID, EventTime> eventTimes = new HashMap<>();
+
+    // Última contagem completa de tile entities por mundo
+    private final Map<UUID, Integer> tileEntityCounts = new HashMap<>();
+
+    // Contagem em andamento: mundos restantes nesta volta e chunks restantes do mundo atual
+    private final Deque<UUID> tileScanWorlds = new ArrayDeque<>();
+    private UUID tileScanWorld;
+    private Chunk[] tileScanChunks;
+    private int tileScanIndex;
+    private int tileScanCount;
+    private int tileScanChunksPerTick;
+
+    private final boolean enabled;
+    private long windowStart = System.nanoTime();
+    private BukkitTask logTask;
+    private BukkitTask tileScanTask;
+
+    public WorldProfiler(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+        this.ruleTable = plugin.getWorldManager().getRuleTable();
+        this.enabled = plugin.getConfigManager().isProfilerEnabled();
+    }
+
+    public void start() {
+        Config config = plugin.getConfigManager();
+        int interval = config.getProfilerLogInterval();
+
+        if (enabled && interval > 0) {
+            long ticks = interval * 60L * 20L;
+            logTask = Bukkit.getScheduler().runTaskTimer(plugin, this::logSnapshot, ticks, ticks);
+        }
+
+        tileScanChunksPerTick = config.getProfilerTileScanChunksPerTick();
+        if (enabled && tileScanChunksPerTick > 0) {
+            tileScanTask = Bukkit.getScheduler().runTaskTimer(plugin, this::scanTileEntities, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (logTask != null) {
+            logTask.cancel();
+            logTask = null;
+        }
+
+        if (tileScanTask != null) {
+            tileScanTask.cancel();
+            tileScanTask = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Registra o tempo de um handler de evento; uso: long start = System.nanoTime(); ...; record(world, start)
+    public void record(World world, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startNanos;
+        EventTime time = eventTimes.get(world.getUID());
+        if (time == null) {
+            time = new EventTime();
+            eventTimes.put(world.getUID(), time);
+        }
+
+        time.nanos += elapsed;
+        time.calls++;
+    }
+
+    public void forget(World world) {
+        eventTimes.remove(world.getUID());
+        tileEntityCounts.remove(world.getUID());
+    }
+
+    // Conta as tile entities de no máximo tileScanChunksPerTick chunks, mundo por mundo
+    private void scanTileEntities() {
+        int budget = tileScanChunksPerTick;
+
+        while (budget > 0) {
+            if (tileScanChunks == null) {
+                if (!nextTileScanWorld()) {
+                    return;
+                }
+                // Mundos sem chunks também consomem o orçamento, para o laço sempre terminar
+                budget--;
+            }
+
+            World world = Bukkit.getWorld(tileScanWorld);
+            if (world == null) {
+                // Descarregado durante a contagem
+                tileScanChunks = null;
+                continue;
+            }
+
+            while (budget > 0 && tileScanIndex < tileScanChunks.length) {
+                Chunk chunk = tileScanChunks[tileScanIndex++];
+                if (chunk.isLoaded()) {
+                    tileScanCount += chunk.getTileEntities().length;
+                }
+                budget--;
+            }
+
+            if (tileScanIndex >= tileScanChunks.length) {
+                tileEntityCounts.put(tileScanWorld, tileScanCount);
+                tileScanChunks = null;
+            }
+        }
+    }
+
+    // Começa a contagem do próximo mundo; ao fim de uma volta, começa outra. Retorna falso se não há mundos
+    private boolean nextTileScanWorld() {
+        if (tileScanWorlds.isEmpty()) {
+            for (World world : Bukkit.getWorlds()) {
+                tileScanWorlds.add(world.getUID());
+            }
+            if (tileScanWorlds.isEmpty()) {
+                return false;
+            }
+        }
+
+        while (!tileScanWorlds.isEmpty()) {
+            World world = Bukkit.getWorld(tileScanWorlds.poll());
+            if (world != null) {
+                tileScanWorld = world.getUID();
+                tileScanChunks = world.getLoadedChunks();
+                tileScanIndex = 0;
+                tileScanCount = 0;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Duração da janela de tempo de eventos atual, em milissegundos
+    public long getWindowMillis() {
+        return (System.nanoTime() - windowStart) / 1_000_000L;
+    }
+
+    public List<WorldProfile> snapshot(SortOrder order) {
+        List<WorldProfile> profiles = new ArrayList<>();
+
+        for (World world : Bukkit.getWorlds()) {
+            EventTime time = eventTimes.get(world.getUID());
+            int tileEntities = tileEntityCounts.getOrDefault(world.getUID(), 0);
+
+            profiles.add(new WorldProfile(world.getName(), ruleTable.getWorldData(world),
+                    world.getEntities().size(), world.getLoadedChunks().length, tileEntities, world.getPlayers().size(),
+                    time != null ? time.nanos : 0, time != null ? time.calls : 0));
+        }
+
+        profiles.sort(comparator(order));
+        return profiles;
+    }
+
+    private Comparator<WorldProfile> comparator(SortOrder order) {
+        switch (order) {
+            case ENTIDADES:
+                return Comparator.comparingInt(WorldProfile::getEntities).reversed();
+            case CHUNKS:
+                return Comparator.comparingInt(WorldProfile::getLoadedChunks).reversed();
+            case BLOCOS:
+                return Comparator.comparingInt(WorldProfile::getTileEntities).reversed();
+            case TEMPO:
+            default:
+                return Comparator.comparingLong(WorldProfile::getEventNanos).reversed()
+                        .thenComparing(Comparator.comparingInt(WorldProfile::getEntities).reversed());
+        }
+    }
+
+    public List<String> format(List<WorldProfile> profiles, int limit) {
+        List<String> lines = new ArrayList<>();
+        long windowMillis = Math.max(1, getWindowMillis());
+
+        lines.add("Perfil de " + profiles.size() + " mundos (eventos nos últimos " + (windowMillis / 1000) + "s):");
+
+        int count = 0;
+        for (WorldProfile profile : profiles) {
+            if (count++ >= limit) break;
+
+            WorldData worldData = profile.getWorldData();
+            String owner = worldData != null ? "#" + worldData.getId() + " " + worldData.getOwnerName() : "principal";
+
+            // Tempo de eventos normalizado em ms por segundo (1000 ms/s = uma thread inteira)
+            double eventMsPerSecond = profile.getEventNanos() / 1_000_000.0 / (windowMillis / 1000.0);
+
+            lines.add(String.format("%d. %s (%s): entidades=%d, chunks=%d, blocos=%d, jogadores=%d, eventos=%.2fms/s (%d)",
+                    count, profile.getWorldName(), owner, profile.getEntities(), profile.getLoadedChunks(),
+                    profile.getTileEntities(), profile.getPlayers(), eventMsPerSecond, profile.getEventCalls()));
+        }
+
+        return lines;
+    }
+
+    private void logSnapshot() {
+        int top = plugin.getConfigManager().getProfilerLogTop();
+
+        for (String line : format(snapshot(SortOrder.TEMPO), top)) {
+            plugin.getLogger().info(line);
+        }
+
+        // Nova janela para o tempo de eventos
+        eventTimes.clear();
+        windowStart = System.nanoTime();
+    }
+}
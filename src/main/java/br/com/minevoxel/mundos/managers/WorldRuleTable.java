@@ -0,0 +1,106 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.models.WorldRules;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Tabela de regras por mundo carregado, indexada pelo UID do mundo (sem comparar nomes nos eventos)
+public class WorldRuleTable {
+
+    // Apenas mundos de jogadores; mundos principais (world, lobby) nunca são registrados
+    private final Map<UUID, WorldData> worlds = new ConcurrentHashMap<>();
+
+    // União das regras desativadas em algum mundo registrado
+    private volatile int disabledRules;
+    private volatile Runnable changeListener;
+
+    public void register(World world, WorldData worldData) {
+        worlds.put(world.getUID(), worldData);
+        recompute();
+    }
+
+    public void unregister(World world) {
+        if (worlds.remove(world.getUID()) != null) {
+            recompute();
+        }
+    }
+
+    public void unregister(String worldName) {
+        if (worlds.values().removeIf(worldData -> worldData.getWorldName().equals(worldName))) {
+            recompute();
+        }
+    }
+
+    // Chamado quando o conjunto de regras desativadas muda (ex.: para registrar ou remover listeners)
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private void recompute() {
+        Runnable listener;
+
+        synchronized (this) {
+            int mask = 0;
+            for (WorldData worldData : worlds.values()) {
+                mask |= ~worldData.getRules().getFlags() & WorldRules.ENVIRONMENT_RULES;
+            }
+
+            if (mask == disabledRules) {
+                return;
+            }
+
+            disabledRules = mask;
+            listener = changeListener;
+        }
+
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    public int getDisabledRules() {
+        return disabledRules;
+    }
+
+    // Verdadeiro se alguma das regras indicadas está desativada em pelo menos um mundo
+    public boolean isAnyDisabled(int rules) {
+        return (disabledRules & rules) != 0;
+    }
+
+    // Regras atuais do mundo, ou null se o mundo não é gerenciado pelo plugin
+    public WorldRules getRules(World world) {
+        if (worlds.isEmpty()) {
+            return null;
+        }
+
+        WorldData worldData = worlds.get(world.getUID());
+        return worldData != null ? worldData.getRules() : null;
+    }
+
+    // Dados do mundo gerenciado, ou null se o mundo não é do plugin
+    public WorldData getWorldData(World world) {
+        if (worlds.isEmpty()) {
+            return null;
+        }
+
+        return worlds.get(world.getUID());
+    }
+
+    // Regras do mundo apenas se alguma delas bloqueia algo; null = nada a fazer no evento
+    public WorldRules getRestrictions(World world) {
+        WorldRules rules = getRules(world);
+        return rules != null && !rules.allowsEverything() ? rules : null;
+    }
+
+    public boolean isRegistered(World world) {
+        return worlds.containsKey(world.getUID());
+    }
+
+    public int size() {
+        return worlds.size();
+    }
+}
@@ -0,0 +1,225 @@
+package br.com.minevoxel.mundos.managers;
+
+import br.com.minevoxel.mundos.MinevoxelMundos;
+import br.com.minevoxel.mundos.config.Config;
+import br.com.minevoxel.mundos.models.WorldData;
+import br.com.minevoxel.mundos.utils.VoidChunkGenerator;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.WorldType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.util.*;
+
+// Reserva de mundos já gerados para cada tipo popular. Gerar o terreno é a etapa mais lenta da criação
+// de um mundo; com a reserva, um mundo novo só precisa renomear uma pasta pronta e carregá-la.
+// Criar e descarregar um mundo trava a thread principal, então os modelos são gerados um por vez e só com o
+// servidor ocioso: sem jogadores online (ou, se configurado, com TPS alto) e sem carregamentos na fila.
+// O tipo VOID usa o gerador vazio do plugin. Todos os métodos rodam na thread principal.
+public class WorldTemplatePool {
+
+    private static final String TEMPLATE_PREFIX = "mvtemplate_";
+
+    private final MinevoxelMundos plugin;
+
+    // Tipo de mundo -> pastas de modelos prontos
+    private final Map<String, Deque<String>> ready = new HashMap<>();
+
+    private int poolSize;
+    private boolean onlyWhenEmpty;
+    private double minTps;
+    private long intervalTicks;
+    private BukkitTask generateTask;
+
+    // Início do intervalo atual, para medir o TPS entre duas execuções
+    private long lastRunNanos;
+
+    // Métricas
+    private long claimed;
+    private long generated;
+
+    public WorldTemplatePool(MinevoxelMundos plugin) {
+        this.plugin = plugin;
+    }
+
+    public static boolean isTemplate(String worldName) {
+        return worldName.startsWith(TEMPLATE_PREFIX);
+    }
+
+    public void start() {
+        Config config = plugin.getConfigManager();
+        poolSize = Math.max(0, config.getTemplatePoolSize());
+        onlyWhenEmpty = config.isTemplatePoolOnlyWhenEmpty();
+        minTps = config.getTemplatePoolMinTps();
+
+        for (String preset : config.getTemplatePoolPresets()) {
+            ready.put(preset.toUpperCase(), new ArrayDeque<>());
+        }
+
+        scanExistingTemplates();
+
+        intervalTicks = Math.max(1, config.getTemplatePoolInterval()) * 20L;
+        lastRunNanos = System.nanoTime();
+        generateTask = Bukkit.getScheduler().runTaskTimer(plugin, this::generateNext, intervalTicks, intervalTicks);
+    }
+
+    public void stop() {
+        if (generateTask != null) {
+            generateTask.cancel();
+            generateTask = null;
+        }
+    }
+
+    // Modelos gerados antes de um reinício continuam válidos
+    private void scanExistingTemplates() {
+        File[] worldDirs = Bukkit.getWorldContainer().listFiles(File::isDirectory);
+        if (worldDirs == null) return;
+
+        for (File worldDir : worldDirs) {
+            String name = worldDir.getName();
+            if (!name.startsWith(TEMPLATE_PREFIX) || !new File(worldDir, "level.dat").exists()) continue;
+
+            // Formato: mvtemplate_<tipo>_<id>
+            String[] parts = name.substring(TEMPLATE_PREFIX.length()).split("_", 2);
+            Deque<String> templates = ready.get(parts[0].toUpperCase());
+            if (templates != null && Bukkit.getWorld(name) == null) {
+                templates.add(name);
+            }
+        }
+
+        int total = 0;
+        for (Deque<String> templates : ready.values()) {
+            total += templates.size();
+        }
+        plugin.getLogger().info("Reserva de mundos: " + total + " modelos prontos encontrados");
+    }
+
+    // Só mundos sem semente definida e com as opções padrão podem usar um modelo
+    // (mundos vazios não têm estruturas, então a opção não importa)
+    private boolean isEligible(WorldData worldData) {
+        return worldData.getSeed() == 0 &&
+                "NORMAL".equals(worldData.getEnvironment()) &&
+                (worldData.isGenerateStructures() || "VOID".equals(worldData.getWorldType())) &&
+                ready.containsKey(worldData.getWorldType());
+    }
+
+    // Move um modelo pronto para a pasta do novo mundo; retorna falso se não havia modelo disponível
+    public boolean claim(WorldData worldData) {
+        if (!isEligible(worldData)) {
+            return false;
+        }
+
+        Deque<String> templates = ready.get(worldData.getWorldType());
+        File target = new File(Bukkit.getWorldContainer(), worldData.getWorldName());
+
+        String template;
+        while ((template = templates.poll()) != null) {
+            File source = new File(Bukkit.getWorldContainer(), template);
+            if (!new File(source, "level.dat").exists()) continue;
+
+            if (source.renameTo(target)) {
+                claimed++;
+                plugin.getLogger().info("Mundo " + worldData.getWorldName() + " criado a partir do modelo " + template);
+                return true;
+            }
+
+            plugin.getLogger().warning("Falha ao mover modelo " + template + " para " + worldData.getWorldName());
+        }
+
+        return false;
+    }
+
+    private void generateNext() {
+        // TPS médio desde a última execução (a geração anterior não entra na medida)
+        long now = System.nanoTime();
+        double tps = Math.min(20.0, intervalTicks / ((now - lastRunNanos) / 1_000_000_000.0));
+        lastRunNanos = now;
+
+        if (!isServerIdle(tps)) {
+            return;
+        }
+
+        // Não competir com carregamentos de jogadores nem piorar a falta de memória
+        if (plugin.getWorldManager().getLoadQueue().size() > 0) {
+            return;
+        }
+
+        MemoryPressureEvictor evictor = plugin.getMemoryPressureEvictor();
+        if (evictor != null && evictor.isUnderPressure()) {
+            return;
+        }
+
+        for (Map.Entry<String, Deque<String>> entry : ready.entrySet()) {
+            if (entry.getValue().size() < poolSize) {
+                generate(entry.getKey(), entry.getValue());
+                lastRunNanos = System.nanoTime();
+                return;
+            }
+        }
+    }
+
+    // A geração trava o servidor por alguns segundos: só com ninguém online ou, se permitido, com o TPS alto
+    private boolean isServerIdle(double tps) {
+        if (Bukkit.getOnlinePlayers().isEmpty()) {
+            return true;
+        }
+
+        return !onlyWhenEmpty && tps >= minTps;
+    }
+
+    private void generate(String preset, Deque<String> templates) {
+        String name = TEMPLATE_PREFIX + preset.toLowerCase() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        long start = System.currentTimeMillis();
+
+        try {
+            WorldCreator creator = new WorldCreator(name)
+                    .environment(World.Environment.NORMAL)
+                    .generateStructures(true);
+
+            if ("VOID".equals(preset)) {
+                creator.type(WorldType.NORMAL).generator(new VoidChunkGenerator());
+            } else {
+                try {
+                    creator.type(WorldType.valueOf(preset));
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Tipo de mundo inválido na reserva de mundos: " + preset);
+                    ready.remove(preset);
+                    return;
+                }
+            }
+
+            // Criar fora do Multiverse: o mundo gera o spawn e é descarregado logo em seguida
+            World world = creator.createWorld();
+
+            if (world == null || !Bukkit.unloadWorld(world, true)) {
+                plugin.getLogger().warning("Falha ao gerar modelo de mundo: " + name);
+                return;
+            }
+
+            // Sem uid.dat, o mundo criado a partir do modelo recebe um UID próprio
+            new File(new File(Bukkit.getWorldContainer(), name), "uid.dat").delete();
+
+            templates.add(name);
+            generated++;
+            plugin.getLogger().info("Modelo de mundo " + name + " gerado em " + (System.currentTimeMillis() - start) + "ms");
+        } catch (Exception e) {
+            plugin.getLogger().severe("Erro ao gerar modelo de mundo " + name + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public int getReadyCount(String worldType) {
+        Deque<String> templates = ready.get(worldType);
+        return templates != null ? templates.size() : 0;
+    }
+
+    public long getClaimedCount() {
+        return claimed;
+    }
+
+    public long getGeneratedCount() {
+        return generated;
+    }
+}
@@ -4,6 +4,7 @@ import org.bukkit.GameMode;
 import org.bukkit.WorldType;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WorldData {
 
@@ -18,26 +19,22 @@ public class WorldData {
     // Configurações de mundo
     private String worldType = "NORMAL"; // NORMAL, FLAT, AMPLIFIED, etc.
     private String environment = "NORMAL"; // NORMAL, NETHER, THE_END
-    private boolean pvp = false;
-    private boolean generateStructures = true;
     private long seed = 0;
     private GameMode gameMode = GameMode.SURVIVAL;
 
-    // Configurações de física
-    private boolean physics = true;
-    private boolean waterFlow = true;
-    private boolean lavaFlow = true;
-    private boolean fireSpread = true;
-    private boolean leafDecay = true;
-    private boolean redstone = true;
-    private boolean mobSpawning = true;
-    private boolean animalSpawning = true;
+    // Regras do mundo (pvp, estruturas e física), trocadas por inteiro a cada alteração
+    private final AtomicReference<WorldRules> rules = new AtomicReference<>(WorldRules.DEFAULTS);
 
     // Permissões
     private Map<UUID, String> playerPermissions = new HashMap<>(); // UUID -> OWNER, BUILDER, VISITOR
     private Set<UUID> allowedPlayers = new HashSet<>();
     private boolean isPublic = false;
 
+    // Alterações de permissão ainda não gravadas no banco de dados
+    private final Object permissionChangesLock = new Object();
+    private Map<UUID, String> pendingPermissionUpserts = new HashMap<>();
+    private Set<UUID> pendingPermissionRemovals = new HashSet<>();
+
     // Flags adicionais
     private boolean loaded = false;
     private boolean modified = false;
@@ -72,14 +69,104 @@ public class WorldData {
     }
 
     public void addPlayerPermission(UUID playerUUID, String permission) {
-        playerPermissions.put(playerUUID, permission);
+        String previous = playerPermissions.put(playerUUID, permission);
         allowedPlayers.add(playerUUID);
+
+        if (!permission.equals(previous)) {
+            synchronized (permissionChangesLock) {
+                pendingPermissionRemovals.remove(playerUUID);
+                pendingPermissionUpserts.put(playerUUID, permission);
+            }
+        }
     }
 
     public void removePlayerPermission(UUID playerUUID) {
         if (!playerUUID.equals(ownerUUID)) {
-            playerPermissions.remove(playerUUID);
+            String previous = playerPermissions.remove(playerUUID);
             allowedPlayers.remove(playerUUID);
+
+            if (previous != null) {
+                synchronized (permissionChangesLock) {
+                    pendingPermissionUpserts.remove(playerUUID);
+                    pendingPermissionRemovals.add(playerUUID);
+                }
+            }
+        }
+    }
+
+    // Retorna as alterações pendentes e limpa o registro
+    public PermissionChanges drainPermissionChanges() {
+        synchronized (permissionChangesLock) {
+            PermissionChanges changes = new PermissionChanges(pendingPermissionUpserts, pendingPermissionRemovals);
+            pendingPermissionUpserts = new HashMap<>();
+            pendingPermissionRemovals = new HashSet<>();
+            return changes;
+        }
+    }
+
+    // Devolve alterações que não puderam ser gravadas; alterações mais novas têm prioridade
+    public void restorePermissionChanges(PermissionChanges changes) {
+        synchronized (permissionChangesLock) {
+            for (Map.Entry<UUID, String> entry : changes.getUpserts().entrySet()) {
+                if (!pendingPermissionUpserts.containsKey(entry.getKey()) && !pendingPermissionRemovals.contains(entry.getKey())) {
+                    pendingPermissionUpserts.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            for (UUID playerUUID : changes.getRemovals()) {
+                if (!pendingPermissionUpserts.containsKey(playerUUID)) {
+                    pendingPermissionRemovals.add(playerUUID);
+                }
+            }
+        }
+    }
+
+    public boolean hasPermissionChanges() {
+        synchronized (permissionChangesLock) {
+            return !pendingPermissionUpserts.isEmpty() || !pendingPermissionRemovals.isEmpty();
+        }
+    }
+
+    // Cópia independente dos dados salvos, sem as alterações de permissão pendentes
+    public WorldData copy() {
+        WorldData copy = new WorldData(id, worldName, ownerUUID, ownerName);
+        copy.displayName = displayName;
+        copy.creationDate = creationDate != null ? new Date(creationDate.getTime()) : null;
+        copy.lastAccessed = lastAccessed != null ? new Date(lastAccessed.getTime()) : null;
+        copy.worldType = worldType;
+        copy.environment = environment;
+        copy.seed = seed;
+        copy.gameMode = gameMode;
+        copy.rules.set(rules.get());
+        copy.playerPermissions = new HashMap<>(playerPermissions);
+        copy.allowedPlayers = new HashSet<>(allowedPlayers);
+        copy.isPublic = isPublic;
+        copy.loaded = loaded;
+        return copy;
+    }
+
+    public static class PermissionChanges {
+
+        private final Map<UUID, String> upserts;
+        private final Set<UUID> removals;
+
+        public PermissionChanges(Map<UUID, String> upserts, Set<UUID> removals) {
+            this.upserts = upserts;
+            this.removals = removals;
+        }
+
+        // Jogadores adicionados ou com permissão alterada
+        public Map<UUID, String> getUpserts() {
+            return upserts;
+        }
+
+        // Jogadores removidos
+        public Set<UUID> getRemovals() {
+            return removals;
+        }
+
+        public boolean isEmpty() {
+            return upserts.isEmpty() && removals.isEmpty();
         }
     }
 
@@ -99,20 +186,21 @@ public class WorldData {
         // Configurações de mundo
         data.put("worldType", worldType);
         data.put("environment", environment);
-        data.put("pvp", pvp);
-        data.put("generateStructures", generateStructures);
+        data.put("pvp", isPvp());
+        data.put("generateStructures", isGenerateStructures());
         data.put("seed", seed);
         data.put("gameMode", gameMode.name());
 
         // Configurações de física
-        data.put("physics", physics);
-        data.put("waterFlow", waterFlow);
-        data.put("lavaFlow", lavaFlow);
-        data.put("fireSpread", fireSpread);
-        data.put("leafDecay", leafDecay);
-        data.put("redstone", redstone);
-        data.put("mobSpawning", mobSpawning);
-        data.put("animalSpawning", animalSpawning);
+        WorldRules snapshot = getRules();
+        data.put("physics", snapshot.isPhysics());
+        data.put("waterFlow", snapshot.isWaterFlow());
+        data.put("lavaFlow", snapshot.isLavaFlow());
+        data.put("fireSpread", snapshot.isFireSpread());
+        data.put("leafDecay", snapshot.isLeafDecay());
+        data.put("redstone", snapshot.isRedstone());
+        data.put("mobSpawning", snapshot.isMobSpawning());
+        data.put("animalSpawning", snapshot.isAnimalSpawning());
 
         // Permissões
         Map<String, String> serializedPermissions = new HashMap<>();
@@ -252,20 +340,38 @@ public class WorldData {
         this.environment = environment;
     }
 
+    // Cópia imutável das regras; use para testar várias regras de uma vez sem leituras inconsistentes
+    public WorldRules getRules() {
+        return rules.get();
+    }
+
+    // Publica várias alterações de regra de uma só vez
+    public void setRules(WorldRules rules) {
+        this.rules.set(rules);
+    }
+
+    public void setRule(int rule, boolean enabled) {
+        rules.updateAndGet(current -> current.with(rule, enabled));
+    }
+
+    public void setRules(int mask, int values) {
+        rules.updateAndGet(current -> current.withMasked(mask, values));
+    }
+
     public boolean isPvp() {
-        return pvp;
+        return rules.get().isPvp();
     }
 
     public void setPvp(boolean pvp) {
-        this.pvp = pvp;
+        setRule(WorldRules.PVP, pvp);
     }
 
     public boolean isGenerateStructures() {
-        return generateStructures;
+        return rules.get().isGenerateStructures();
     }
 
     public void setGenerateStructures(boolean generateStructures) {
-        this.generateStructures = generateStructures;
+        setRule(WorldRules.GENERATE_STRUCTURES, generateStructures);
     }
 
     public long getSeed() {
@@ -285,67 +391,67 @@ public class WorldData {
     }
 
     public boolean isPhysics() {
-        return physics;
+        return rules.get().isPhysics();
     }
 
     public void setPhysics(boolean physics) {
-        this.physics = physics;
+        setRule(WorldRules.PHYSICS, physics);
     }
 
     public boolean isWaterFlow() {
-        return waterFlow;
+        return rules.get().isWaterFlow();
     }
 
     public void setWaterFlow(boolean waterFlow) {
-        this.waterFlow = waterFlow;
+        setRule(WorldRules.WATER_FLOW, waterFlow);
     }
 
     public boolean isLavaFlow() {
-        return lavaFlow;
+        return rules.get().isLavaFlow();
     }
 
     public void setLavaFlow(boolean lavaFlow) {
-        this.lavaFlow = lavaFlow;
+        setRule(WorldRules.LAVA_FLOW, lavaFlow);
     }
 
     public boolean isFireSpread() {
-        return fireSpread;
+        return rules.get().isFireSpread();
     }
 
     public void setFireSpread(boolean fireSpread) {
-        this.fireSpread = fireSpread;
+        setRule(WorldRules.FIRE_SPREAD, fireSpread);
     }
 
     public boolean isLeafDecay() {
-        return leafDecay;
+        return rules.get().isLeafDecay();
     }
 
     public void setLeafDecay(boolean leafDecay) {
-        this.leafDecay = leafDecay;
+        setRule(WorldRules.LEAF_DECAY, leafDecay);
     }
 
     public boolean isRedstone() {
-        return redstone;
+        return rules.get().isRedstone();
     }
 
     public void setRedstone(boolean redstone) {
-        this.redstone = redstone;
+        setRule(WorldRules.REDSTONE, redstone);
     }
 
     public boolean isMobSpawning() {
-        return mobSpawning;
+        return rules.get().isMobSpawning();
     }
 
     public void setMobSpawning(boolean mobSpawning) {
-        this.mobSpawning = mobSpawning;
+        setRule(WorldRules.MOB_SPAWNING, mobSpawning);
     }
 
     public boolean isAnimalSpawning() {
-        return animalSpawning;
+        return rules.get().isAnimalSpawning();
     }
 
     public void setAnimalSpawning(boolean animalSpawning) {
-        this.animalSpawning = animalSpawning;
+        setRule(WorldRules.ANIMAL_SPAWNING, animalSpawning);
     }
 
     public Map<UUID, String> getPlayerPermissions() {
@@ -0,0 +1,61 @@
+package br.com.minevoxel.mundos.models;
+
+import java.util.Collections;
+import java.util.List;
+
+public class WorldPage {
+
+    private final List<WorldData> worlds;
+    private final boolean hasMore;
+
+    public WorldPage(List<WorldData> worlds, boolean hasMore) {
+        this.worlds = worlds;
+        this.hasMore = hasMore;
+    }
+
+    public static WorldPage empty() {
+        return new WorldPage(Collections.emptyList(), false);
+    }
+
+    public List<WorldData> getWorlds() {
+        return worlds;
+    }
+
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    public boolean isEmpty() {
+        return worlds.isEmpty();
+    }
+
+    // Posição para buscar a próxima página (último mundo desta página)
+    public Cursor getNextCursor() {
+        if (!hasMore || worlds.isEmpty()) {
+            return null;
+        }
+
+        WorldData last = worlds.get(worlds.size() - 1);
+        return new Cursor(last.getLastAccessed().getTime(), last.getId());
+    }
+
+    // Posição na ordenação (last_accessed DESC, id DESC)
+    public static class Cursor {
+
+        private final long lastAccessed;
+        private final int worldId;
+
+        public Cursor(long lastAccessed, int worldId) {
+            this.lastAccessed = lastAccessed;
+            this.worldId = worldId;
+        }
+
+        public long getLastAccessed() {
+            return lastAccessed;
+        }
+
+        public int getWorldId() {
+            return worldId;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.minevoxel.mundos.models;
+
+// Regras de um mundo em uma única palavra de bits; imutável, pode ser lida de qualquer thread
+public final class WorldRules {
+
+    // Os oito primeiros bits são gravados na coluna rule_flags: nunca reordenar
+    public static final int PHYSICS = 1;
+    public static final int WATER_FLOW = 1 << 1;
+    public static final int LAVA_FLOW = 1 << 2;
+    public static final int FIRE_SPREAD = 1 << 3;
+    public static final int LEAF_DECAY = 1 << 4;
+    public static final int REDSTONE = 1 << 5;
+    public static final int MOB_SPAWNING = 1 << 6;
+    public static final int ANIMAL_SPAWNING = 1 << 7;
+    public static final int PVP = 1 << 8;
+    public static final int GENERATE_STRUCTURES = 1 << 9;
+
+    // Regras de ambiente (física, líquidos, fogo, folhas, redstone e spawns)
+    public static final int ENVIRONMENT_RULES = PHYSICS | WATER_FLOW | LAVA_FLOW | FIRE_SPREAD | LEAF_DECAY
+            | REDSTONE | MOB_SPAWNING | ANIMAL_SPAWNING;
+
+    public static final WorldRules DEFAULTS = new WorldRules(ENVIRONMENT_RULES | GENERATE_STRUCTURES);
+
+    private final int flags;
+
+    private WorldRules(int flags) {
+        this.flags = flags;
+    }
+
+    public static WorldRules of(int flags) {
+        return flags == DEFAULTS.flags ? DEFAULTS : new WorldRules(flags);
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public boolean has(int rule) {
+        return (flags & rule) == rule;
+    }
+
+    // Verdadeiro se todas as regras de ambiente estão ativadas (nada a bloquear nos eventos)
+    public boolean allowsEverything() {
+        return (flags & ENVIRONMENT_RULES) == ENVIRONMENT_RULES;
+    }
+
+    public WorldRules with(int rule, boolean enabled) {
+        return of(enabled ? flags | rule : flags & ~rule);
+    }
+
+    // Substitui apenas os bits indicados em mask pelos bits de values
+    public WorldRules withMasked(int mask, int values) {
+        return of((flags & ~mask) | (values & mask));
+    }
+
+    public boolean isPhysics() {
+        return has(PHYSICS);
+    }
+
+    public boolean isWaterFlow() {
+        return has(WATER_FLOW);
+    }
+
+    public boolean isLavaFlow() {
+        return has(LAVA_FLOW);
+    }
+
+    public boolean isFireSpread() {
+        return has(FIRE_SPREAD);
+    }
+
+    public boolean isLeafDecay() {
+        return has(LEAF_DECAY);
+    }
+
+    public boolean isRedstone() {
+        return has(REDSTONE);
+    }
+
+    public boolean isMobSpawning() {
+        return has(MOB_SPAWNING);
+    }
+
+    public boolean isAnimalSpawning() {
+        return has(ANIMAL_SPAWNING);
+    }
+
+    public boolean isPvp() {
+        return has(PVP);
+    }
+
+    public boolean isGenerateStructures() {
+        return has(GENERATE_STRUCTURES);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof WorldRules && ((WorldRules) o).flags == flags);
+    }
+
+    @Override
+    public int hashCode() {
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        return "WorldRules{" + Integer.toBinaryString(flags) + "}";
+    }
+}
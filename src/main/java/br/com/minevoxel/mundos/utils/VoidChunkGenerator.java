@@ -0,0 +1,68 @@
+package br.com.minevoxel.mundos.utils;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.generator.WorldInfo;
+
+import java.util.Random;
+
+// Gerador de mundos vazios (tipo VOID): nenhum terreno, apenas uma plataforma de pedra no spawn.
+// O Multiverse o encontra pelo nome "<plugin>:void" (ver MinevoxelMundos#getDefaultWorldGenerator).
+public class VoidChunkGenerator extends ChunkGenerator {
+
+    public static final String ID = "void";
+
+    private static final int PLATFORM_Y = 63;
+    private static final int PLATFORM_SIZE = 3;
+
+    @Override
+    public void generateSurface(WorldInfo worldInfo, Random random, int chunkX, int chunkZ, ChunkData chunkData) {
+        if (chunkX != 0 || chunkZ != 0) {
+            return;
+        }
+
+        for (int x = 0; x < PLATFORM_SIZE; x++) {
+            for (int z = 0; z < PLATFORM_SIZE; z++) {
+                chunkData.setBlock(x, PLATFORM_Y, z, Material.STONE);
+            }
+        }
+    }
+
+    @Override
+    public Location getFixedSpawnLocation(World world, Random random) {
+        // Centro da plataforma
+        return new Location(world, PLATFORM_SIZE / 2 + 0.5, PLATFORM_Y + 1, PLATFORM_SIZE / 2 + 0.5);
+    }
+
+    @Override
+    public boolean shouldGenerateNoise() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldGenerateSurface() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldGenerateCaves() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldGenerateDecorations() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldGenerateMobs() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldGenerateStructures() {
+        return false;
+    }
+}
@@ -10,6 +10,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.messaging.PluginMessageListener;
 
 import java.io.*;
+import java.util.List;
 import java.util.UUID;
 
 public class MessageChannels implements PluginMessageListener {
@@ -44,6 +45,9 @@ public class MessageChannels implements PluginMessageListener {
             case "WorldUpdate":
                 handleWorldUpdateMessage(in);
                 break;
+            case "WorldsUpdated":
+                handleWorldsUpdatedMessage(in);
+                break;
             default:
                 plugin.getLogger().warning("Subchannel desconhecido: " + subchannel);
                 break;
@@ -108,18 +112,34 @@ public class MessageChannels implements PluginMessageListener {
     }
 
     private void handleWorldUpdateMessage(ByteArrayDataInput in) {
-        int worldId = in.readInt();
+        onWorldUpdated(in.readInt());
+    }
+
+    // Vários mundos gravados em lote por outro servidor
+    private void handleWorldsUpdatedMessage(ByteArrayDataInput in) {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            onWorldUpdated(in.readInt());
+        }
+    }
 
+    private void onWorldUpdated(int worldId) {
         // Verificar se estamos no servidor Worlds
-        if (plugin.isWorldsServer()) {
-            // Buscar dados atualizados do mundo
-            plugin.getDatabaseManager().getWorld(worldId).thenAccept(worldData -> {
-                if (worldData != null) {
-                    // Atualizar configurações do mundo
-                    plugin.getWorldManager().updateWorldSettings(worldData);
-                }
-            });
+        if (!plugin.isWorldsServer()) {
+            // O mundo foi alterado em outro servidor; a cópia em memória está desatualizada
+            plugin.getDatabaseManager().invalidateWorld(worldId);
+            return;
         }
+
+        // Ler a versão gravada direto do banco (a versão pendente na fila é mais antiga e é descartada)
+        plugin.getDatabaseManager().reloadWorld(worldId).thenAccept(worldData -> {
+            if (worldData == null || !plugin.isEnabled()) {
+                return;
+            }
+
+            // Aplicar as configurações na thread principal, sem gravar nada de volta no banco
+            Bukkit.getScheduler().runTask(plugin, () -> plugin.getWorldManager().updateWorldSettings(worldData));
+        });
     }
 
     // Métodos para enviar mensagens
@@ -228,6 +248,45 @@ public class MessageChannels implements PluginMessageListener {
         }
     }
 
+    // Enviado pelo DatabaseManager depois de cada gravação de mundos no banco de dados
+    public void sendWorldsUpdatedMessage(List<Integer> worldIds) {
+        // Verificar se há jogadores online para enviar a mensagem
+        if (Bukkit.getOnlinePlayers().isEmpty()) {
+            return;
+        }
+
+        // Pegar um jogador para enviar a mensagem
+        Player player = Bukkit.getOnlinePlayers().iterator().next();
+
+        ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeUTF("Forward");
+        out.writeUTF("ALL"); // Enviar para todos os servidores
+        out.writeUTF("minevoxel:mundos");
+
+        ByteArrayOutputStream msgbytes = new ByteArrayOutputStream();
+        DataOutputStream msgout = new DataOutputStream(msgbytes);
+
+        try {
+            // Escrever dados da mensagem
+            msgout.writeUTF("WorldsUpdated");
+            msgout.writeInt(worldIds.size());
+            for (int worldId : worldIds) {
+                msgout.writeInt(worldId);
+            }
+
+            // Finalizar mensagem
+            out.writeShort(msgbytes.toByteArray().length);
+            out.write(msgbytes.toByteArray());
+
+            // Enviar mensagem
+            player.sendPluginMessage(plugin, "BungeeCord", out.toByteArray());
+
+        } catch (IOException e) {
+            plugin.getLogger().severe("Erro ao enviar mensagem: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
     public void sendWorldResponseMessage(String requestId, String response) {
         // Verificar se há jogadores online para enviar a mensagem
         if (Bukkit.getOnlinePlayers().isEmpty()) {